@@ -1,28 +1,89 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjIntDictionary;
 import datastructures.interfaces.IDisjointSet;
 
 /**
+ * A disjoint set whose find and union strategies can be chosen when it is made:
+ *
+ * - PathStrategy decides how findSet shortens the path it walks. COMPRESSION (the default)
+ *   points every node on the path straight at the root, in two passes; HALVING and SPLITTING
+ *   point nodes at their grandparents in a single pass, which does less writing per find.
+ * - LinkStrategy decides which root union keeps. RANK (the default) keeps the root with the
+ *   higher rank, and SIZE the one with more items.
+ *
+ * Every strategy walks the path in a loop, so long chains can't overflow the stack.
+ *
  * @see IDisjointSet for more details.
  */
 public class ArrayDisjointSet<T> implements IDisjointSet<T> {
+    /**
+     * How findSet shortens the path from an item to its root.
+     */
+    public enum PathStrategy {
+        COMPRESSION, HALVING, SPLITTING
+    }
+
+    /**
+     * Which of two roots union keeps as the root of the merged set.
+     */
+    public enum LinkStrategy {
+        RANK, SIZE
+    }
+
+    private static final int DEFAULT_CAPACITY = 50;
+
     // Note: do NOT rename or delete this field. We will be inspecting it
     // directly within our private tests.
+    //
+    // pointers[i] is i's parent, or, if i is a root, -1 - rank when linking by rank and
+    // -size when linking by size.
     private int[] pointers;
 
     // However, feel free to add more fields and private helper methods.
     // You will probably need to add one or two more fields in order to
     // successfully implement this class.
     private int size;
+    private int componentCount;
 
-    private IDictionary<T, Integer> nodeMap;
+    // The size of each root's set when linking by rank, and null when linking by size.
+    private int[] sizes;
+
+    private final PathStrategy pathStrategy;
+    private final LinkStrategy linkStrategy;
+
+    // Maps each item to its index in 'pointers'.
+    private ObjIntDictionary<T> nodeMap;
 
     public ArrayDisjointSet() {
-        size = 0;
-        pointers = new int[50];
-        nodeMap = new ChainedHashDictionary<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a disjoint set with room for 'capacity' items before it needs to grow, which
+     * compresses paths fully and links by rank.
+     */
+    public ArrayDisjointSet(int capacity) {
+        this(capacity, PathStrategy.COMPRESSION, LinkStrategy.RANK);
+    }
+
+    /**
+     * Creates a disjoint set with room for 'capacity' items before it needs to grow, using
+     * the given strategies.
+     *
+     * @throws IllegalArgumentException  if either strategy is null
+     */
+    public ArrayDisjointSet(int capacity, PathStrategy pathStrategy, LinkStrategy linkStrategy) {
+        if (pathStrategy == null || linkStrategy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.size = 0;
+        this.componentCount = 0;
+        this.pointers = new int[Math.max(capacity, 1)];
+        this.sizes = linkStrategy == LinkStrategy.RANK ? new int[pointers.length] : null;
+        this.pathStrategy = pathStrategy;
+        this.linkStrategy = linkStrategy;
+        this.nodeMap = new ObjIntDictionary<>(capacity);
     }
 
     @Override
@@ -33,43 +94,126 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
         ensureArrayCapacity();
         nodeMap.put(item, size);
         pointers[size] = -1;
+        if (sizes != null) {
+            sizes[size] = 1;
+        }
         size++;
+        componentCount++;
     }
 
     @Override
     public int findSet(T item) {
-        if (!nodeMap.containsKey(item)) {
-            throw new IllegalArgumentException();
-        }
-        int index = nodeMap.get(item);
-        return findHelper(index);
+        return findRoot(indexOf(item));
     }
 
-    private int findHelper(int index) {
-        if (pointers[index] < 0) {
-            return index;
+    @Override
+    public void union(T item1, T item2) {
+        int rep1 = findRoot(indexOf(item1));
+        int rep2 = findRoot(indexOf(item2));
+        if (rep1 == rep2) {
+            return;
+        }
+        // Either way, roots hold negative numbers that get smaller as the set grows, so the
+        // smaller value wins, and rep1 wins a tie.
+        if (pointers[rep1] > pointers[rep2]) {
+            int temp = rep1;
+            rep1 = rep2;
+            rep2 = temp;
+        }
+        if (linkStrategy == LinkStrategy.RANK) {
+            if (pointers[rep1] == pointers[rep2]) {
+                pointers[rep1]--;
+            }
+            sizes[rep1] += sizes[rep2];
         } else {
-            pointers[index] = findHelper(pointers[index]);
-            return pointers[index];
+            pointers[rep1] += pointers[rep2];
         }
+        pointers[rep2] = rep1;
+        componentCount--;
     }
 
-    @Override
-    public void union(T item1, T item2) {
-        if (!nodeMap.containsKey(item1) || !nodeMap.containsKey(item2)) {
+    /**
+     * Returns the number of items in the same set as the given item, including itself.
+     *
+     * @throws IllegalArgumentException  if the item is not contained inside this disjoint set
+     */
+    public int sizeOf(T item) {
+        int root = findRoot(indexOf(item));
+        return sizes != null ? sizes[root] : -pointers[root];
+    }
+
+    /**
+     * Returns the number of separate sets.
+     */
+    public int componentCount() {
+        return componentCount;
+    }
+
+    private int indexOf(T item) {
+        int index = nodeMap.getOrDefault(item, -1);
+        if (index < 0) {
             throw new IllegalArgumentException();
         }
-        int rep1 = findSet(item1);
-        int rep2 = findSet(item2);
-        if (pointers[rep1] == pointers[rep2]) {
-            pointers[rep2] = rep1;
-            pointers[rep1]--;
-        } else if (pointers[rep1] < pointers[rep2]) {
-            pointers[rep2] = rep1;
-        } else {
-            pointers[rep1] = rep2;
+        return index;
+    }
+
+    private int findRoot(int index) {
+        switch (pathStrategy) {
+            case HALVING:
+                return findRootHalving(index);
+            case SPLITTING:
+                return findRootSplitting(index);
+            default:
+                return findRootCompressing(index);
         }
+    }
+
+    /**
+     * Full compression: finds the root, then walks the path again pointing each node at it.
+     */
+    private int findRootCompressing(int index) {
+        int root = index;
+        while (pointers[root] >= 0) {
+            root = pointers[root];
+        }
+        while (index != root) {
+            int next = pointers[index];
+            pointers[index] = root;
+            index = next;
+        }
+        return root;
+    }
 
+    /**
+     * Path halving: every other node on the path is pointed at its grandparent.
+     */
+    private int findRootHalving(int index) {
+        while (pointers[index] >= 0) {
+            int parent = pointers[index];
+            int grandparent = pointers[parent];
+            if (grandparent < 0) {
+                return parent;
+            }
+            pointers[index] = grandparent;
+            index = grandparent;
+        }
+        return index;
+    }
+
+    /**
+     * Path splitting: every node on the path is pointed at its grandparent.
+     */
+    private int findRootSplitting(int index) {
+        while (pointers[index] >= 0) {
+            int parent = pointers[index];
+            int grandparent = pointers[parent];
+            if (grandparent < 0) {
+                return parent;
+            }
+            pointers[index] = grandparent;
+            index = parent;
+        }
+        return index;
     }
 
     private void ensureArrayCapacity() {
@@ -77,6 +221,11 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
             int[] newArr = new int[pointers.length * 2];
             System.arraycopy(pointers, 0, newArr, 0, size);
             pointers = newArr;
+            if (sizes != null) {
+                int[] newSizes = new int[newArr.length];
+                System.arraycopy(sizes, 0, newSizes, 0, size);
+                sizes = newSizes;
+            }
         }
     }
 }
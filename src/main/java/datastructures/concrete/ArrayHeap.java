@@ -1,7 +1,6 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjIntDictionary;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 import misc.exceptions.InvalidElementException;
@@ -20,12 +19,21 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     private T[] heap;
 
     // Feel free to add more fields and constants.
-    private IDictionary<T, Integer> map;
+    // Maps each element to its index in 'heap'. Uses primitive int values so that
+    // updating an index while percolating doesn't box an Integer.
+    private ObjIntDictionary<T> map;
     private int size;
 
     public ArrayHeap() {
-        heap = makeArrayOfT(DEFAULT_CAPACITY);
-        map = new ChainedHashDictionary<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap with room for 'capacity' elements before it needs to grow.
+     */
+    public ArrayHeap(int capacity) {
+        heap = makeArrayOfT(Math.max(capacity, 1));
+        map = new ObjIntDictionary<>(capacity);
         size = 0;
     }
 
@@ -158,6 +166,41 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         percolateUp(size - 1);
     }
 
+    /**
+     * Appends every item to the end of the array, then restores the heap property. If the
+     * batch is at least as big as the heap already was, this rebuilds the whole heap bottom-up
+     * (Floyd's method) in O(n) instead of percolating each item up in O(log n).
+     */
+    @Override
+    public void addAll(Iterable<? extends T> items) {
+        int oldSize = size;
+        try {
+            for (T item : items) {
+                if (item == null) {
+                    throw new IllegalArgumentException();
+                }
+                if (contains(item)) {
+                    throw new InvalidElementException();
+                }
+                ensureCapacity();
+                map.put(item, size);
+                heap[size] = item;
+                size++;
+            }
+        } finally {
+            // Even if some item was rejected, the ones before it have been added.
+            if (size - oldSize >= oldSize) {
+                for (int i = (size - 2) / NUM_CHILDREN; i >= 0; i--) {
+                    percolateDown(i);
+                }
+            } else {
+                for (int i = oldSize; i < size; i++) {
+                    percolateUp(i);
+                }
+            }
+        }
+    }
+
     @Override
     public boolean contains(T item) {
         if (item == null) {
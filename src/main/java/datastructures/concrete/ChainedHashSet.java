@@ -3,10 +3,13 @@ package datastructures.concrete;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryFactory;
 import datastructures.interfaces.ISet;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * @see ISet for more details on what each method is supposed to do.
@@ -17,7 +20,28 @@ public class ChainedHashSet<T> implements ISet<T> {
 
     public ChainedHashSet() {
         // No need to change this method
-        this.map = new ChainedHashDictionary<>();
+        this(ChainedHashDictionary::withExpectedSize);
+    }
+
+    /**
+     * Creates a set backed by a dictionary from the given factory.
+     */
+    public ChainedHashSet(IDictionaryFactory factory) {
+        this(factory, 0);
+    }
+
+    /**
+     * Creates a set with room for 'expectedSize' items before it needs to grow.
+     */
+    public ChainedHashSet(int expectedSize) {
+        this(ChainedHashDictionary::withExpectedSize, expectedSize);
+    }
+
+    /**
+     * Creates a set backed by a dictionary from the given factory, sized for 'expectedSize' items.
+     */
+    public ChainedHashSet(IDictionaryFactory factory, int expectedSize) {
+        this.map = factory.makeDictionary(expectedSize);
     }
 
     @Override
@@ -44,11 +68,57 @@ public class ChainedHashSet<T> implements ISet<T> {
         return map.size();
     }
 
+    /**
+     * When 'other' is also a ChainedHashSet, grows the table at most once up front.
+     */
+    @Override
+    public void addAll(ISet<T> other) {
+        if (other instanceof ChainedHashSet) {
+            map.putAll(((ChainedHashSet<T>) other).map);
+        } else {
+            ISet.super.addAll(other);
+        }
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new SetIterator<>(this.map.iterator());
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(this.map.spliterator());
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        map.forEachKey(action);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        return SetView.union(this, other);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        return SetView.difference(this, other);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        return SetView.intersection(this, other);
+    }
+
     private static class SetIterator<T> implements Iterator<T> {
         // This should be the only field you need
         private Iterator<KVPair<T, Boolean>> iter;
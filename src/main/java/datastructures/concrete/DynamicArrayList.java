@@ -0,0 +1,194 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An IList backed by a single array that grows by half again whenever it fills up.
+ *
+ * Compared to DoubleLinkedList, get(...) and set(...) take constant time and there is no node
+ * per element, but insert(...) and delete(...) shift every element after the index, so they
+ * are only cheap near the end of the list.
+ *
+ * @see IList for more details on what each method is supposed to do.
+ */
+public class DynamicArrayList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Invariant: items[i] is the i-th element for i < size, and items[i] == null for i >= size.
+    private T[] items;
+    private int size;
+
+    public DynamicArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list with room for 'capacity' items before it needs to grow.
+     *
+     * @throws IllegalArgumentException  if capacity is negative
+     */
+    public DynamicArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.items = makeArrayOfItems(capacity);
+        this.size = 0;
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfItems(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        this.ensureCapacity(this.size + 1);
+        this.items[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T item = this.items[this.size];
+        this.items[this.size] = null;
+        return item;
+    }
+
+    @Override
+    public T get(int index) {
+        this.ensureIndexBound(index);
+        return this.items[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.ensureIndexBound(index);
+        this.items[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index >= this.size + 1) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.ensureCapacity(this.size + 1);
+        System.arraycopy(this.items, index, this.items, index + 1, this.size - index);
+        this.items[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.ensureIndexBound(index);
+        T item = this.items[index];
+        System.arraycopy(this.items, index + 1, this.items, index, this.size - index - 1);
+        this.size--;
+        this.items[this.size] = null;
+        return item;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            if (Objects.equals(this.items[i], item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new DynamicArrayListIterator<>(this);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.items, 0, this.size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.items[i]);
+        }
+    }
+
+    /**
+     * Grows the backing array, if needed, so it can hold at least 'capacity' items.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.items.length) {
+            // Grow by at least half again, so a run of adds takes amortized constant time.
+            int newCapacity = Math.max(capacity, this.items.length + (this.items.length >> 1) + 1);
+            this.items = Arrays.copyOf(this.items, newCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly fit the current items.
+     */
+    public void trimToSize() {
+        if (this.items.length > this.size) {
+            this.items = Arrays.copyOf(this.items, this.size);
+        }
+    }
+
+    private void ensureIndexBound(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class DynamicArrayListIterator<T> implements Iterator<T> {
+        private final DynamicArrayList<T> list;
+        private int index; // Index of the next item to return.
+
+        // Like the other iterators, assumes the list isn't modified mid-iteration.
+        public DynamicArrayListIterator(DynamicArrayList<T> list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = this.list.items[this.index];
+            this.index++;
+            return item;
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.dictionaries.ObjIntDictionary;
 import datastructures.interfaces.IDictionary;
-import datastructures.interfaces.IDisjointSet;
+import datastructures.interfaces.IDictionaryFactory;
+import datastructures.interfaces.IDoubleIntPriorityQueue;
 import datastructures.interfaces.IEdge;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.ISet;
 import misc.Sorter;
 import misc.exceptions.NoPathExistsException;
 
+import java.util.Arrays;
+
 /**
  * Represents an undirected, weighted graph, possibly containing self-loops, parallel edges,
  * and unconnected components.
@@ -60,55 +62,23 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
     private IDictionary<V, IList<E>> adjList;
     private IList<E> allEdges;
 
-    private static class TableEntry<V, E>
-            implements Comparable<TableEntry<V, E>> {
-        // Add any fields you think will be useful
+    // Path costs below this are exact in a double, and fit a RadixHeap key.
+    private static final double MAX_EXACT_COST = (double) (1L << 53);
 
-        private final V current;
-        private final V predecessor;
-        private final E edge;
-        private final double cost;
+    // Supplies every dictionary (and the dictionary behind every set) this graph builds.
+    private final IDictionaryFactory factory;
 
-        public TableEntry(V current, V predecessor, double cost, E edge) {
-            this.current = current;
-            this.predecessor = predecessor;
-            this.cost = cost;
-            this.edge = edge;
-        }
+    // Each vertex is also numbered 0..n-1 in the order it was given, so that searches can keep
+    // their per-vertex state in plain arrays. 'vertexList' and 'edgeLists' are indexed by id.
+    private ObjIntDictionary<V> vertexIds;
+    private IList<V> vertexList;
+    private IList<IList<E>> edgeLists;
+    // The ids of the ends of allEdges.get(i) are edgeEnds[2 * i] and edgeEnds[2 * i + 1].
+    private int[] edgeEnds;
 
-        public V getCurrent() {
-            return current;
-        }
-
-        public V getPredecessor() {
-            return predecessor;
-        }
-
-        public double getCost() {
-            return cost;
-        }
-
-        public E getEdge() {
-            return edge;
-        }
-
-        public int compareTo(TableEntry<V, E> other) {
-            // Define compareTo to determine how your vertices will
-            // be ordered in the IPriorityQueue
-            if (this.cost == other.cost) {
-                return 0;
-            } else if (this.cost > other.cost) {
-                return 1;
-            } else {
-                return -1;
-            }
-        }
-
-        public String toString() {
-            return "Curr: " + current + " Pred: " + predecessor
-                    + " Cost: " + cost + " Prev Edge: " + edge;
-        }
-    }
+    // True if every edge weight is a whole number and every path cost is exact as a double, in
+    // which case shortest paths can use a RadixHeap without losing anything.
+    private boolean integralWeights;
 
     /**
      * Constructs a new graph based on the given vertices and edges.
@@ -123,13 +93,36 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * @throws IllegalArgumentException if 'vertices' contains duplicates
      */
     public Graph(IList<V> vertices, IList<E> edges) {
-        adjList = new ChainedHashDictionary<>();
-        allEdges = new DoubleLinkedList<>();
+        this(vertices, edges, ChainedHashDictionary::withExpectedSize);
+    }
+
+    /**
+     * Constructs a new graph based on the given vertices and edges, using the given factory
+     * for every dictionary the graph builds internally.
+     *
+     * @throws IllegalArgumentException if any edges have a negative weight
+     * @throws IllegalArgumentException if any edges connect to a vertex not present in 'vertices'
+     * @throws IllegalArgumentException if 'vertices' or 'edges' are null or contain null
+     * @throws IllegalArgumentException if 'vertices' contains duplicates
+     */
+    public Graph(IList<V> vertices, IList<E> edges, IDictionaryFactory factory) {
+        this.factory = factory;
+        adjList = factory.makeDictionary(vertices.size());
+        allEdges = new DynamicArrayList<>(edges.size());
+        double totalWeight = 0;
+        boolean wholeWeights = true;
+        vertexIds = new ObjIntDictionary<>(vertices.size());
+        vertexList = new DynamicArrayList<>(vertices.size());
+        edgeLists = new DynamicArrayList<>(vertices.size());
         for (V vertex : vertices) {
             if (vertex == null || adjList.containsKey(vertex)) {
                 throw new IllegalArgumentException();
             }
-            adjList.put(vertex, new DoubleLinkedList<>());
+            IList<E> edgeList = new DynamicArrayList<>();
+            adjList.put(vertex, edgeList);
+            vertexIds.put(vertex, vertexList.size());
+            vertexList.add(vertex);
+            edgeLists.add(edgeList);
         }
         for (E edge : edges) {
             if (edge == null || edge.getWeight() < 0) {
@@ -146,10 +139,22 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
                 adjList.get(v2).add(edge);
             }
             allEdges.add(edge);
+            totalWeight += edge.getWeight();
+            wholeWeights &= edge.getWeight() == Math.rint(edge.getWeight());
         }
+        integralWeights = wholeWeights && totalWeight < MAX_EXACT_COST;
 
         // Sort the edges once and for all.
         allEdges = Sorter.topKSort(allEdges.size(), allEdges);
+
+        // Look up the ids of each edge's ends once, so Kruskal never touches a map.
+        edgeEnds = new int[2 * allEdges.size()];
+        int edgeIndex = 0;
+        for (E edge : allEdges) {
+            edgeEnds[edgeIndex] = vertexIds.get(edge.getVertex1());
+            edgeEnds[edgeIndex + 1] = vertexIds.get(edge.getVertex2());
+            edgeIndex += 2;
+        }
     }
 
     /**
@@ -167,16 +172,21 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         this(setToList(vertices), setToList(edges));
     }
 
+    /**
+     * Same as above, but uses the given factory for every dictionary the graph builds internally.
+     */
+    public Graph(ISet<V> vertices, ISet<E> edges, IDictionaryFactory factory) {
+        this(setToList(vertices), setToList(edges), factory);
+    }
+
     // You shouldn't need to call this helper method -- it only needs to be used
     // in the constructor above.
     private static <T> IList<T> setToList(ISet<T> set) {
         if (set == null) {
             throw new IllegalArgumentException();
         }
-        IList<T> output = new DoubleLinkedList<>();
-        for (T item : set) {
-            output.add(item);
-        }
+        IList<T> output = new DynamicArrayList<>(set.size());
+        set.forEach(output::add);
         return output;
     }
 
@@ -203,24 +213,19 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * Precondition: the graph does not contain any unconnected components.
      */
     public ISet<E> findMinimumSpanningTree() {
-        IDisjointSet<V> disjoint = new ArrayDisjointSet<>();
-        ISet<E> result = new ChainedHashSet<>();
-
-        for (KVPair<V, IList<E>> pair : adjList) {
-            disjoint.makeSet(pair.getKey());
-        }
+        return findMinimumSpanningTree(new ChainedHashSet<>(factory, adjList.size()));
+    }
 
-        for (E edge : allEdges) {
-            if (result.size() >= adjList.size() - 1) {
-                // Found enough edges.
-                break;
-            }
+    /**
+     * Like findMinimumSpanningTree(), but adds the edges to the given (empty) set and returns it.
+     * Useful when the caller has a more compact set for its edges, such as an IdSet.
+     */
+    public ISet<E> findMinimumSpanningTree(ISet<E> result) {
+        IntDisjointSet disjoint = new IntDisjointSet(vertexList.size());
 
-            V v1 = edge.getVertex1();
-            V v2 = edge.getVertex2();
-            if (disjoint.findSet(v1) != disjoint.findSet(v2)) {
-                disjoint.union(v1, v2);
-                result.add(edge);
+        for (int i = 0; i < allEdges.size() && disjoint.componentCount() > 1; i++) {
+            if (disjoint.union(edgeEnds[2 * i], edgeEnds[2 * i + 1])) {
+                result.add(allEdges.get(i));
             }
         }
 
@@ -236,37 +241,75 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * the edge connecting to the end node.
      * <p>
      * Return an empty list if the start and end vertices are the same.
+     * <p>
+     * If every edge weight is a whole number, this runs on a RadixHeap; otherwise it runs on
+     * a DoubleIntHeap.
      *
      * @throws NoPathExistsException    if there does not exist a path from the start to the end
      * @throws IllegalArgumentException if start or end is null or not in the graph
      */
     public IList<E> findShortestPathBetween(V start, V end) {
+        return findShortestPathBetween(start, end, integralWeights
+                ? new RadixHeap(vertexList.size())
+                : new DoubleIntHeap(vertexList.size()));
+    }
+
+    /**
+     * Like findShortestPathBetween(start, end), but rounds every path cost to a multiple of
+     * 1 / quantization so that the search can run on a RadixHeap whatever the edge weights.
+     * <p>
+     * Paths whose costs differ by less than about (number of edges on the path) / quantization
+     * may be mistaken for one another, so the path returned can be slightly longer than the
+     * true shortest path.
+     *
+     * @throws NoPathExistsException    if there does not exist a path from the start to the end
+     * @throws IllegalArgumentException if start or end is null or not in the graph
+     * @throws IllegalArgumentException if quantization is not a positive, finite number, or is
+     *                                  so large that path costs no longer fit in a long
+     */
+    public IList<E> findShortestPathBetween(V start, V end, double quantization) {
+        return findShortestPathBetween(start, end, new RadixHeap(vertexList.size(), quantization));
+    }
+
+    /**
+     * Like findShortestPathBetween(start, end), but runs on the given (empty) queue. The queue
+     * is keyed by vertex id, numbered from 0 in the order the vertices were given.
+     *
+     * @throws NoPathExistsException    if there does not exist a path from the start to the end
+     * @throws IllegalArgumentException if start or end is null or not in the graph
+     */
+    public IList<E> findShortestPathBetween(V start, V end, IDoubleIntPriorityQueue pq) {
         if (start == null || end == null || !adjList.containsKey(start) || !adjList.containsKey(end)) {
             throw new IllegalArgumentException();
         }
 
         // What if we are already there?
         if (start.equals(end)) {
-            return new DoubleLinkedList<>();
+            return new DynamicArrayList<>(0);
         }
 
-        IPriorityQueue<TableEntry<V, E>> pq = new ArrayHeap<>();
-        IDictionary<V, TableEntry<V, E>> table = new ChainedHashDictionary<>();
-
-        for (KVPair<V, IList<E>> pair : adjList) {
-            TableEntry<V, E> entry;
-            if (pair.getKey().equals(start)) {
-                entry = new TableEntry<V, E>(pair.getKey(), null, 0, null);
-            } else {
-                entry = new TableEntry<V, E>(pair.getKey(), null, Double.POSITIVE_INFINITY, null);
+        // Per-vertex state lives in arrays indexed by vertex id, and the queue holds ids with
+        // double priorities, so relaxing an edge allocates nothing.
+        int numVertices = vertexList.size();
+        double[] costs = new double[numVertices];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        Object[] predecessorEdges = new Object[numVertices];
+        int startId = vertexIds.get(start);
+        int endId = vertexIds.get(end);
+
+        costs[startId] = 0;
+        pq.add(startId, 0);
+
+        while (!pq.isEmpty()) {
+            int currId = pq.removeMin();
+            if (currId == endId) {
+                // Costs are final (up to any rounding the queue does) once a vertex leaves it.
+                break;
             }
-            pq.add(entry);
-            table.put(pair.getKey(), entry);
-        }
-
-        while (pq.size() > 0) {
-            TableEntry<V, E> currEntry = pq.removeMin();
-            for (E edge : adjList.get(currEntry.getCurrent())) {
+            V vertexSrc = vertexList.get(currId);
+            IList<E> edgeList = edgeLists.get(currId);
+            for (int i = 0; i < edgeList.size(); i++) {
+                E edge = edgeList.get(i);
                 if (edge.getVertex1().equals(edge.getVertex2())) {
                     // No self loops.
                     continue;
@@ -274,35 +317,37 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
 
                 // Since our graph is undirected, we must figure out which one
                 // in our edge is the source and which one is the destination.
-                V vertexSrc = currEntry.getCurrent();
-                V vertexTo = edge.getOtherVertex(vertexSrc);
-
-
-                double newCost = currEntry.getCost() + edge.getWeight();
-
-                TableEntry<V, E> oldEntry = table.get(vertexTo);
-                if (newCost < oldEntry.getCost()) {
-                    TableEntry<V, E> newEntry = new TableEntry<V, E>(vertexTo,
-                                                                            vertexSrc,
-                                                                            newCost,
-                                                                            edge);
-                    table.put(vertexTo, newEntry);
-                    pq.remove(oldEntry);
-                    pq.add(newEntry);
+                int toId = vertexIds.get(edge.getOtherVertex(vertexSrc));
+                double newCost = costs[currId] + edge.getWeight();
+                if (newCost < costs[toId]) {
+                    costs[toId] = newCost;
+                    predecessorEdges[toId] = edge;
+                    pq.addOrDecrease(toId, newCost);
                 }
             }
         }
 
-        if (table.get(end).getPredecessor() == null) {
+        if (predecessorEdges[endId] == null) {
             throw new NoPathExistsException();
         }
 
-        IList<E> result = new DoubleLinkedList<>();
-        TableEntry<V, E> curr = table.get(end);
-        while (curr.getEdge() != null) {
-            result.insert(0, curr.getEdge());
-            curr = table.get(curr.getPredecessor());
+        // Walk back from the end, then reverse, rather than inserting every edge at the front.
+        IList<E> backwards = new DynamicArrayList<>();
+        int currId = endId;
+        while (currId != startId) {
+            E edge = edgeAt(predecessorEdges, currId);
+            backwards.add(edge);
+            currId = vertexIds.get(edge.getOtherVertex(vertexList.get(currId)));
+        }
+        IList<E> result = new DynamicArrayList<>(backwards.size());
+        for (int i = backwards.size() - 1; i >= 0; i--) {
+            result.add(backwards.get(i));
         }
         return result;
     }
+
+    @SuppressWarnings("unchecked")
+    private E edgeAt(Object[] edges, int id) {
+        return (E) edges[id];
+    }
 }
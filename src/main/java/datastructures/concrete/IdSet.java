@@ -0,0 +1,370 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.ISet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A set of items that each carry a small, dense, non-negative id, stored as a bitset.
+ *
+ * Membership costs one bit per possible id, plus one reference per id for the item itself,
+ * instead of the entry objects a ChainedHashSet allocates. The bulk operations from ISet
+ * combine two IdSets 64 ids at a time.
+ *
+ * No two distinct items may share an id, and every set combined with this one must use the
+ * same id function. Iteration visits items in increasing id order.
+ *
+ * @see ISet for more details on what each method is supposed to do.
+ */
+public class IdSet<T> implements ISet<T> {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final ToIntFunction<? super T> idOf;
+
+    // Invariants:
+    // - bit 'id' of 'words' is set iff the item with that id is in the set, and then items[id] is that item.
+    // - size is the number of set bits.
+    //
+    // items[id] is never cleared once written, since the id always maps to the same item. This
+    // lets sets derived from one another (via copy, emptyCopy, difference, ...) share one array.
+    private long[] words;
+    private T[] items;
+    private int size;
+
+    /**
+     * Creates a set for items whose id is given by 'idOf'.
+     */
+    public IdSet(ToIntFunction<? super T> idOf) {
+        this(idOf, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a set with room for ids below 'capacity' before it needs to grow.
+     */
+    public IdSet(ToIntFunction<? super T> idOf, int capacity) {
+        this(idOf, new long[wordsFor(capacity)], makeArrayOfItems(Math.max(capacity, 0)), 0);
+    }
+
+    private IdSet(ToIntFunction<? super T> idOf, long[] words, T[] items, int size) {
+        this.idOf = idOf;
+        this.words = words;
+        this.items = items;
+        this.size = size;
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOfItems(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    private static int wordsFor(int capacity) {
+        return (Math.max(capacity, 0) + 63) >>> 6;
+    }
+
+    /**
+     * Returns a new, empty set that uses the same id function as this one.
+     */
+    public IdSet<T> emptyCopy() {
+        return new IdSet<>(this.idOf, new long[this.words.length], this.items, 0);
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the item's id is negative
+     */
+    @Override
+    public void add(T item) {
+        int id = this.idOf.applyAsInt(item);
+        if (id < 0) {
+            throw new IllegalArgumentException("Item has no id: " + item);
+        }
+        this.ensureCapacity(id + 1);
+        long bit = 1L << id;
+        if ((this.words[id >>> 6] & bit) == 0) {
+            this.words[id >>> 6] |= bit;
+            this.size++;
+        }
+        this.items[id] = item;
+    }
+
+    @Override
+    public void remove(T item) {
+        if (!this.contains(item)) {
+            throw new NoSuchElementException();
+        }
+        int id = this.idOf.applyAsInt(item);
+        this.words[id >>> 6] &= ~(1L << id);
+        this.size--;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        int id = this.idOf.applyAsInt(item);
+        return this.containsId(id) && Objects.equals(this.items[id], item);
+    }
+
+    /**
+     * Returns 'true' if this set contains the item with the given id.
+     */
+    public boolean containsId(int id) {
+        return id >= 0 && (id >>> 6) < this.words.length && (this.words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a new set with the same items as this one.
+     */
+    public IdSet<T> copy() {
+        return new IdSet<>(this.idOf, this.words.clone(), this.items, this.size);
+    }
+
+    /**
+     * When 'other' is also an IdSet, works 64 ids at a time.
+     */
+    @Override
+    public void addAll(ISet<T> other) {
+        if (!(other instanceof IdSet)) {
+            ISet.super.addAll(other);
+            return;
+        }
+        IdSet<T> ids = (IdSet<T>) other;
+        this.ensureCapacity(ids.items.length);
+        for (int i = 0; i < ids.words.length; i++) {
+            if (ids.items != this.items) {
+                // Bring over the items only 'other' knows about.
+                for (long word = ids.words[i] & ~this.words[i]; word != 0; word &= word - 1) {
+                    int id = (i << 6) + Long.numberOfTrailingZeros(word);
+                    this.items[id] = ids.items[id];
+                }
+            }
+            this.words[i] |= ids.words[i];
+        }
+        this.size = cardinality(this.words);
+    }
+
+    /**
+     * When 'other' is also an IdSet, works 64 ids at a time.
+     */
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (!(other instanceof IdSet)) {
+            ISet.super.removeAll(other);
+            return;
+        }
+        long[] otherWords = ((IdSet<T>) other).words;
+        int shared = Math.min(this.words.length, otherWords.length);
+        for (int i = 0; i < shared; i++) {
+            this.words[i] &= ~otherWords[i];
+        }
+        this.size = cardinality(this.words);
+    }
+
+    /**
+     * When 'other' is also an IdSet, works 64 ids at a time.
+     */
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (other instanceof IdSet) {
+            long[] otherWords = ((IdSet<T>) other).words;
+            for (int i = 0; i < this.words.length; i++) {
+                this.words[i] &= i < otherWords.length ? otherWords[i] : 0;
+            }
+        } else {
+            for (int i = 0; i < this.words.length; i++) {
+                for (long word = this.words[i]; word != 0; word &= word - 1) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    if (!other.contains(this.items[(i << 6) + bit])) {
+                        this.words[i] &= ~(1L << bit);
+                    }
+                }
+            }
+        }
+        this.size = cardinality(this.words);
+    }
+
+    /**
+     * Returns a new IdSet holding every item in this set or in 'other'.
+     */
+    @Override
+    public IdSet<T> union(ISet<T> other) {
+        IdSet<T> result = this.copy();
+        result.addAll(other);
+        return result;
+    }
+
+    /**
+     * Returns a new IdSet holding every item in this set that is not in 'other'.
+     */
+    @Override
+    public IdSet<T> difference(ISet<T> other) {
+        IdSet<T> result = this.copy();
+        result.removeAll(other);
+        return result;
+    }
+
+    /**
+     * Returns a new IdSet holding every item that is in both this set and 'other'.
+     */
+    @Override
+    public IdSet<T> intersection(ISet<T> other) {
+        IdSet<T> result = this.copy();
+        result.retainAll(other);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new IdSetIterator<>(this);
+    }
+
+    /**
+     * Splits by word range, and visits items in increasing id order.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        long first = this.words.length > 0 ? this.words[0] : 0;
+        return new IdSetSpliterator<>(this.words, this.items, 0, first, this.words.length, this.size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < this.words.length; i++) {
+            for (long word = this.words[i]; word != 0; word &= word - 1) {
+                action.accept(this.items[(i << 6) + Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.items.length) {
+            int newCapacity = Math.max(capacity, this.items.length * 2);
+            this.items = Arrays.copyOf(this.items, newCapacity);
+            this.words = Arrays.copyOf(this.words, wordsFor(newCapacity));
+        }
+    }
+
+    private static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static class IdSetSpliterator<T> implements Spliterator<T> {
+        private final long[] words;
+        private final T[] items;
+        private int wordIndex; // Index of the word 'word' came from.
+        private long word; // Bits of the current word we have yet to hand out.
+        private final int fence; // One past the last word in range.
+        private long estimate;
+
+        // Like the other iterators, assumes the set isn't modified mid-traversal.
+        public IdSetSpliterator(long[] words, T[] items, int wordIndex, long word, int fence, long estimate) {
+            this.words = words;
+            this.items = items;
+            this.wordIndex = wordIndex;
+            this.word = word;
+            this.fence = fence;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (this.word == 0) {
+                if (this.wordIndex + 1 >= this.fence) {
+                    return false;
+                }
+                this.wordIndex++;
+                this.word = this.words[this.wordIndex];
+            }
+            int id = (this.wordIndex << 6) + Long.numberOfTrailingZeros(this.word);
+            this.word &= this.word - 1;
+            action.accept(this.items[id]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (true) {
+                for (; this.word != 0; this.word &= this.word - 1) {
+                    action.accept(this.items[(this.wordIndex << 6) + Long.numberOfTrailingZeros(this.word)]);
+                }
+                if (this.wordIndex + 1 >= this.fence) {
+                    return;
+                }
+                this.wordIndex++;
+                this.word = this.words[this.wordIndex];
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // The prefix keeps the current word, so ids stay in order across the split.
+            int mid = (this.wordIndex + this.fence) >>> 1;
+            if (mid <= this.wordIndex) {
+                return null;
+            }
+            this.estimate >>>= 1;
+            Spliterator<T> prefix =
+                    new IdSetSpliterator<>(this.words, this.items, this.wordIndex, this.word, mid, this.estimate);
+            this.wordIndex = mid;
+            this.word = this.words[mid];
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.DISTINCT;
+        }
+    }
+
+    private static class IdSetIterator<T> implements Iterator<T> {
+        private final IdSet<T> set;
+        private int wordIndex; // Index of the word 'word' came from.
+        private long word; // Bits of the current word we have yet to return.
+
+        // Like the other iterators, assumes the set isn't modified mid-iteration.
+        public IdSetIterator(IdSet<T> set) {
+            this.set = set;
+            this.wordIndex = 0;
+            this.word = set.words.length > 0 ? set.words[0] : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.word == 0 && this.wordIndex + 1 < this.set.words.length) {
+                this.wordIndex++;
+                this.word = this.set.words[this.wordIndex];
+            }
+            return this.word != 0;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int id = (this.wordIndex << 6) + Long.numberOfTrailingZeros(this.word);
+            this.word &= this.word - 1;
+            return this.set.items[id];
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIndexedPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+/**
+ * A 4-heap of handles. Each handle's element lives in 'items', and each handle's slot in the
+ * heap lives in 'positions', so finding an element is an array read rather than a hash lookup
+ * the way it is in ArrayHeap.
+ *
+ * @see IIndexedPriorityQueue for details on what each method must do.
+ */
+public class IndexedArrayHeap<T extends Comparable<T>> implements IIndexedPriorityQueue<T> {
+    private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_CAPACITY = 50;
+    private static final int REMOVED = -1;
+
+    // The handles, in heap order.
+    private int[] heap;
+    // items[h] is the element for handle h; positions[h] is its index in 'heap', or REMOVED.
+    private T[] items;
+    private int[] positions;
+    private int size;
+    private int handleCount;
+
+    public IndexedArrayHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap with room for 'capacity' handles before it needs to grow.
+     */
+    public IndexedArrayHeap(int capacity) {
+        capacity = Math.max(capacity, 1);
+        heap = new int[capacity];
+        items = makeArrayOfT(capacity);
+        positions = new int[capacity];
+        size = 0;
+        handleCount = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    @Override
+    public int add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        ensureCapacity();
+        int handle = handleCount;
+        handleCount++;
+        items[handle] = item;
+        heap[size] = handle;
+        positions[handle] = size;
+        size++;
+        siftUp(size - 1);
+        return handle;
+    }
+
+    @Override
+    public T removeMin() {
+        return items[removeMinHandle()];
+    }
+
+    @Override
+    public int removeMinHandle() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        int handle = heap[0];
+        removeAt(0);
+        return handle;
+    }
+
+    @Override
+    public T peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return items[heap[0]];
+    }
+
+    @Override
+    public T get(int handle) {
+        if (handle < 0 || handle >= handleCount) {
+            throw new InvalidElementException();
+        }
+        return items[handle];
+    }
+
+    @Override
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleCount && positions[handle] != REMOVED;
+    }
+
+    @Override
+    public void decreaseKey(int handle, T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException();
+        }
+        if (!contains(handle)) {
+            throw new InvalidElementException();
+        }
+        if (newItem.compareTo(items[handle]) > 0) {
+            throw new IllegalArgumentException();
+        }
+        items[handle] = newItem;
+        siftUp(positions[handle]);
+    }
+
+    @Override
+    public void update(int handle, T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException();
+        }
+        if (!contains(handle)) {
+            throw new InvalidElementException();
+        }
+        int distance = newItem.compareTo(items[handle]);
+        items[handle] = newItem;
+        if (distance < 0) {
+            siftUp(positions[handle]);
+        } else if (distance > 0) {
+            siftDown(positions[handle]);
+        }
+    }
+
+    @Override
+    public void remove(int handle) {
+        if (!contains(handle)) {
+            throw new InvalidElementException();
+        }
+        removeAt(positions[handle]);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Takes the handle at the given heap index out of the heap, moving the last handle into
+     * its place and percolating that one whichever way it needs to go.
+     */
+    private void removeAt(int index) {
+        positions[heap[index]] = REMOVED;
+        size--;
+        if (index == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[index] = last;
+        positions[last] = index;
+        if (index > 0 && less(last, heap[(index - 1) / NUM_CHILDREN])) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    /**
+     * Moves the handle at the given index up until its parent is no greater than it. Parents
+     * are shifted down into the hole rather than swapped, so each level costs one write.
+     */
+    private void siftUp(int index) {
+        int handle = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / NUM_CHILDREN;
+            int parent = heap[parentIndex];
+            if (!less(handle, parent)) {
+                break;
+            }
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = handle;
+        positions[handle] = index;
+    }
+
+    /**
+     * Moves the handle at the given index down until none of its children is smaller.
+     */
+    private void siftDown(int index) {
+        int handle = heap[index];
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, size);
+            int minIndex = firstChild;
+            for (int i = firstChild + 1; i < lastChild; i++) {
+                if (less(heap[i], heap[minIndex])) {
+                    minIndex = i;
+                }
+            }
+            int child = heap[minIndex];
+            if (!less(child, handle)) {
+                break;
+            }
+            heap[index] = child;
+            positions[child] = index;
+            index = minIndex;
+        }
+        heap[index] = handle;
+        positions[handle] = index;
+    }
+
+    private boolean less(int handleA, int handleB) {
+        return items[handleA].compareTo(items[handleB]) < 0;
+    }
+
+    private void ensureCapacity() {
+        if (handleCount == items.length) {
+            int newLength = items.length * 2;
+            T[] newItems = makeArrayOfT(newLength);
+            System.arraycopy(items, 0, newItems, 0, handleCount);
+            items = newItems;
+            int[] newPositions = new int[newLength];
+            System.arraycopy(positions, 0, newPositions, 0, handleCount);
+            positions = newPositions;
+        }
+        if (size == heap.length) {
+            int[] newHeap = new int[heap.length * 2];
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+    }
+}
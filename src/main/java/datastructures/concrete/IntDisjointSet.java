@@ -0,0 +1,143 @@
+package datastructures.concrete;
+
+/**
+ * A disjoint set over the ints 0..n-1, for callers that have already numbered their items.
+ *
+ * Compared with ArrayDisjointSet, there is no map from items to indices to consult, so find
+ * and union go straight to the array. Like ArrayDisjointSet it links by rank, storing a root's
+ * rank as a negative number in its own slot, but it compresses paths by halving in a loop
+ * rather than by recursion, so long chains can't overflow the stack.
+ */
+public class IntDisjointSet {
+    private static final int DEFAULT_CAPACITY = 50;
+
+    // parents[i] is i's parent, or -1 - rank if i is a root.
+    private int[] parents;
+    private int size;
+    private int componentCount;
+
+    public IntDisjointSet() {
+        this.parents = new int[DEFAULT_CAPACITY];
+        this.size = 0;
+        this.componentCount = 0;
+    }
+
+    /**
+     * Creates a disjoint set holding the singletons 0..n-1.
+     */
+    public IntDisjointSet(int n) {
+        this.parents = new int[Math.max(n, 1)];
+        this.size = 0;
+        this.componentCount = 0;
+        makeSets(n);
+    }
+
+    /**
+     * Adds 'count' new singleton sets and returns the first of their ids; the others follow
+     * it in order.
+     *
+     * @throws IllegalArgumentException  if count is negative
+     */
+    public int makeSets(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        int first = size;
+        if (size + count > parents.length) {
+            int[] newParents = new int[Math.max(size + count, parents.length * 2)];
+            System.arraycopy(parents, 0, newParents, 0, size);
+            parents = newParents;
+        }
+        for (int i = size; i < size + count; i++) {
+            parents[i] = -1;
+        }
+        size += count;
+        componentCount += count;
+        return first;
+    }
+
+    /**
+     * Returns the representative of the set holding 'id'.
+     *
+     * @throws IllegalArgumentException  if id is not between 0 and size() - 1
+     */
+    public int find(int id) {
+        check(id);
+        return findRoot(id);
+    }
+
+    /**
+     * Merges the sets holding id1 and id2. Returns 'true' if they were separate, and 'false' if
+     * they were already the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not between 0 and size() - 1
+     */
+    public boolean union(int id1, int id2) {
+        check(id1);
+        check(id2);
+        int root1 = findRoot(id1);
+        int root2 = findRoot(id2);
+        if (root1 == root2) {
+            return false;
+        }
+        // Roots hold -1 - rank, so the smaller value has the larger rank.
+        if (parents[root1] > parents[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        } else if (parents[root1] == parents[root2]) {
+            parents[root1]--;
+        }
+        parents[root2] = root1;
+        componentCount--;
+        return true;
+    }
+
+    /**
+     * Returns 'true' if id1 and id2 are in the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not between 0 and size() - 1
+     */
+    public boolean connected(int id1, int id2) {
+        check(id1);
+        check(id2);
+        return findRoot(id1) == findRoot(id2);
+    }
+
+    /**
+     * Returns the number of ids.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of separate sets.
+     */
+    public int componentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Path halving: every other node on the way up is pointed at its grandparent. The walk
+     * jumps straight to that grandparent, so the nodes in between are left as they were.
+     */
+    private int findRoot(int id) {
+        while (parents[id] >= 0) {
+            int parent = parents[id];
+            int grandparent = parents[parent];
+            if (grandparent < 0) {
+                return parent;
+            }
+            parents[id] = grandparent;
+            id = grandparent;
+        }
+        return id;
+    }
+
+    private void check(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
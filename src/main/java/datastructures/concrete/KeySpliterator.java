@@ -0,0 +1,45 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.KVPair;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Adapts a spliterator over a dictionary's entries into one over its keys, splitting
+ * wherever the dictionary's own spliterator does.
+ */
+class KeySpliterator<T> implements Spliterator<T> {
+    private final Spliterator<KVPair<T, Boolean>> entries;
+
+    KeySpliterator(Spliterator<KVPair<T, Boolean>> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return this.entries.tryAdvance(pair -> action.accept(pair.getKey()));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        this.entries.forEachRemaining(pair -> action.accept(pair.getKey()));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<KVPair<T, Boolean>> prefix = this.entries.trySplit();
+        return prefix == null ? null : new KeySpliterator<>(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.entries.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        // The entries are never null, but a key may be.
+        return this.entries.characteristics() & ~Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,193 @@
+package datastructures.concrete;
+
+import misc.exceptions.EmptyContainerException;
+
+import java.util.function.Predicate;
+
+/**
+ * A 4-heap like ArrayHeap, but without ArrayHeap's map from each element to its index. It
+ * accepts duplicates and never hashes, at the cost of having no contains, remove or replace.
+ *
+ * This suits the "push duplicates, skip stale on pop" style of Dijkstra's algorithm: instead
+ * of decreasing a vertex's key, push a new entry for it, and let removeMin throw the old one
+ * away when it surfaces. Whether an entry is stale is decided by a predicate, either given to
+ * the constructor or passed to removeMin.
+ *
+ * size() counts every entry still in the array, including stale ones that haven't surfaced yet.
+ */
+public class LazyArrayHeap<T extends Comparable<T>> {
+    private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_CAPACITY = 50;
+
+    private T[] heap;
+    private int size;
+    private final Predicate<? super T> isStale;
+
+    public LazyArrayHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap with room for 'capacity' elements, where no element is ever stale.
+     */
+    public LazyArrayHeap(int capacity) {
+        this(capacity, item -> false);
+    }
+
+    /**
+     * Creates a heap with room for 'capacity' elements, whose removeMin and peekMin skip and
+     * discard elements for which 'isStale' returns true.
+     */
+    public LazyArrayHeap(int capacity, Predicate<? super T> isStale) {
+        this.heap = makeArrayOfT(Math.max(capacity, 1));
+        this.size = 0;
+        this.isStale = isStale;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    /**
+     * Adds the given item into the heap, even if an equal item is already there.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public void add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == heap.length) {
+            T[] newHeap = makeArrayOfT(size * 2);
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+        int index = size;
+        size++;
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (heap[parent].compareTo(item) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    /**
+     * Removes and returns the smallest element that isn't stale, discarding any stale ones
+     * smaller than it.
+     *
+     * @throws EmptyContainerException  if the heap holds no element that isn't stale
+     */
+    public T removeMin() {
+        return removeMin(isStale);
+    }
+
+    /**
+     * Same as removeMin(), but decides staleness with the given predicate instead of the
+     * heap's own.
+     *
+     * @throws EmptyContainerException  if the heap holds no element that isn't stale
+     */
+    public T removeMin(Predicate<? super T> stale) {
+        while (true) {
+            if (size == 0) {
+                throw new EmptyContainerException();
+            }
+            T min = removeTop();
+            if (!stale.test(min)) {
+                return min;
+            }
+        }
+    }
+
+    /**
+     * Like removeMin(), but returns null instead of throwing when no element is left.
+     */
+    public T pollMin() {
+        while (size > 0) {
+            T min = removeTop();
+            if (!isStale.test(min)) {
+                return min;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns, but does not remove, the smallest element that isn't stale. Stale elements
+     * smaller than it are discarded.
+     *
+     * @throws EmptyContainerException  if the heap holds no element that isn't stale
+     */
+    public T peekMin() {
+        while (size > 0 && isStale.test(heap[0])) {
+            removeTop();
+        }
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the number of elements in the heap, stale or not.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns 'true' if the heap holds no elements at all, stale or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Removes heap[0] without looking at whether it is stale, and returns it.
+     */
+    private T removeTop() {
+        T min = heap[0];
+        size--;
+        T last = heap[size];
+        heap[size] = null;
+        if (size == 0) {
+            return min;
+        }
+        int index = 0;
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int end = Math.min(firstChild + NUM_CHILDREN, size);
+            int minChild = firstChild;
+            for (int i = firstChild + 1; i < end; i++) {
+                if (heap[i].compareTo(heap[minChild]) < 0) {
+                    minChild = i;
+                }
+            }
+            if (heap[minChild].compareTo(last) >= 0) {
+                break;
+            }
+            heap[index] = heap[minChild];
+            index = minChild;
+        }
+        heap[index] = last;
+        return min;
+    }
+}
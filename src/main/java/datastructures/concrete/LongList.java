@@ -0,0 +1,208 @@
+package datastructures.concrete;
+
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A growable list of longs, stored unboxed in a single array.
+ *
+ * This is the long counterpart of DynamicArrayList: appending takes amortized constant time,
+ * and get(...) and set(...) take constant time, but no Long object is created per item.
+ * It is not an IList, since that interface would box every item on the way in and out.
+ */
+public class LongList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Invariant: values[0..size) holds the list's items, in order.
+    private long[] values;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list with room for 'capacity' items before it needs to grow.
+     *
+     * @throws IllegalArgumentException  if capacity is negative
+     */
+    public LongList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.values = new long[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given value to the end of this list.
+     */
+    public void add(long value) {
+        this.ensureCapacity(this.size + 1);
+        this.values[this.size] = value;
+        this.size++;
+    }
+
+    /**
+     * Adds every value in the array to the end of this list, in order.
+     */
+    public void addAll(long[] values) {
+        this.ensureCapacity(this.size + values.length);
+        System.arraycopy(values, 0, this.values, this.size, values.length);
+        this.size += values.length;
+    }
+
+    /**
+     * Adds every value in 'other' to the end of this list, in order.
+     */
+    public void addAll(LongList other) {
+        int count = other.size;
+        this.ensureCapacity(this.size + count);
+        System.arraycopy(other.values, 0, this.values, this.size, count);
+        this.size += count;
+    }
+
+    /**
+     * Removes and returns the value at the end of this list.
+     *
+     * @throws EmptyContainerException if the list is empty
+     */
+    public long remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        return this.values[this.size];
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public long get(int index) {
+        this.ensureIndexBound(index);
+        return this.values[index];
+    }
+
+    /**
+     * Overwrites the value at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void set(int index, long value) {
+        this.ensureIndexBound(index);
+        this.values[index] = value;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given value, or -1 if there is none.
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns 'true' if this list contains the given value, and 'false' otherwise.
+     */
+    public boolean contains(long value) {
+        return this.indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns 'true' if this list contains no values, and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every value from this list, keeping its capacity.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Sorts this list into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(this.values, 0, this.size);
+    }
+
+    /**
+     * Searches this list, which must already be sorted, for the given value.
+     *
+     * Returns the value's index if it is present; otherwise returns (-(insertion point) - 1),
+     * where the insertion point is the index the value would have to go at to keep the list
+     * sorted, following the same convention as java.util.Arrays.binarySearch.
+     */
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(this.values, 0, this.size, value);
+    }
+
+    /**
+     * Returns a new array holding this list's values, in order.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    /**
+     * Calls the given action once for each value, in order.
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.values[i]);
+        }
+    }
+
+    /**
+     * Returns a sequential stream over the values in this list, in order. Call parallel() on
+     * it to split the backing array across threads.
+     */
+    public LongStream stream() {
+        return Arrays.stream(this.values, 0, this.size);
+    }
+
+    /**
+     * Grows the backing array, if needed, so it can hold at least 'capacity' values.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.values.length) {
+            // Grow by at least half again, so a run of adds takes amortized constant time.
+            int newCapacity = Math.max(capacity, this.values.length + (this.values.length >> 1) + 1);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly fit the current values.
+     */
+    public void trimToSize() {
+        if (this.values.length > this.size) {
+            this.values = Arrays.copyOf(this.values, this.size);
+        }
+    }
+
+    private void ensureIndexBound(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
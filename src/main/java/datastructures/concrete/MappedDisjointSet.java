@@ -0,0 +1,67 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ObjIntDictionary;
+import datastructures.interfaces.IDisjointSet;
+
+/**
+ * An IDisjointSet of objects on top of an IntDisjointSet. Each item is given an id once, when
+ * its set is made; callers that will touch the same items many times can look the ids up once
+ * with idOf and then work on ints() directly, skipping the map altogether.
+ *
+ * @see IDisjointSet for more details.
+ */
+public class MappedDisjointSet<T> implements IDisjointSet<T> {
+    private final ObjIntDictionary<T> ids;
+    private final IntDisjointSet sets;
+
+    public MappedDisjointSet() {
+        this(ObjIntDictionary.DEFAULT_CAP);
+    }
+
+    /**
+     * Creates a disjoint set with room for 'capacity' items before it needs to grow.
+     */
+    public MappedDisjointSet(int capacity) {
+        this.ids = new ObjIntDictionary<>(capacity);
+        this.sets = new IntDisjointSet(0);
+    }
+
+    @Override
+    public void makeSet(T item) {
+        if (ids.containsKey(item)) {
+            throw new IllegalArgumentException();
+        }
+        ids.put(item, sets.makeSets(1));
+    }
+
+    @Override
+    public int findSet(T item) {
+        return sets.find(idOf(item));
+    }
+
+    @Override
+    public void union(T item1, T item2) {
+        sets.union(idOf(item1), idOf(item2));
+    }
+
+    /**
+     * Returns the id the given item was given by makeSet. Ids count up from 0 in the order
+     * the items were added.
+     *
+     * @throws IllegalArgumentException  if the item is not contained inside this disjoint set
+     */
+    public int idOf(T item) {
+        int id = ids.getOrDefault(item, -1);
+        if (id < 0) {
+            throw new IllegalArgumentException();
+        }
+        return id;
+    }
+
+    /**
+     * Returns the underlying int disjoint set, which changes along with this one.
+     */
+    public IntDisjointSet ints() {
+        return sets;
+    }
+}
@@ -0,0 +1,161 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IConcurrentPriorityQueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A relaxed concurrent priority queue made of several independently locked LazyArrayHeaps
+ * (shards).
+ *
+ * add puts the item into a random shard. pollMin picks two random shards, and removes the
+ * smaller of their two minimums. Each shard publishes its minimum in a volatile field, so the
+ * choice is made without taking any lock, and only the chosen shard is locked. If a lock is
+ * busy, the thread picks again rather than wait.
+ *
+ * Rank error: with m shards, the element pollMin returns is, in expectation, among the O(m)
+ * smallest elements in the queue, and among the O(m log m) smallest with high probability.
+ * Picking the better of two shards is what keeps this bounded; picking one random shard lets
+ * the shards drift apart and the error grow over time. With a single shard the queue is exact.
+ * (See Rihani, Sanders and Dementiev, "MultiQueues: Simple Relaxed Concurrent Priority
+ * Queues", SPAA 2015, and Alistarh et al., "The Power of Choice in Priority Scheduling",
+ * PODC 2017.)
+ *
+ * For a parallel Dijkstra search this means a vertex may be expanded before its final cost is
+ * known, so the search must allow a vertex to be improved and expanded again.
+ *
+ * @see IConcurrentPriorityQueue
+ */
+public class MultiQueue<T extends Comparable<T>> implements IConcurrentPriorityQueue<T> {
+    /**
+     * How many shards to make per thread, by default.
+     */
+    public static final int DEFAULT_SHARDS_PER_THREAD = 2;
+    private static final int DEFAULT_SHARD_CAPACITY = 16;
+
+    private final Shard<T>[] shards;
+    private final AtomicInteger size;
+
+    /**
+     * Creates a queue with two shards per available processor.
+     */
+    public MultiQueue() {
+        this(DEFAULT_SHARDS_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a queue with the given number of shards. More shards mean less contention but a
+     * larger rank error.
+     *
+     * @throws IllegalArgumentException  if numShards is not positive
+     */
+    public MultiQueue(int numShards) {
+        if (numShards <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.shards = makeArrayOfShards(numShards);
+        for (int i = 0; i < numShards; i++) {
+            this.shards[i] = new Shard<>();
+        }
+        this.size = new AtomicInteger(0);
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> Shard<T>[] makeArrayOfShards(int arraySize) {
+        return (Shard<T>[]) new Shard[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Shard<T> shard = shards[random.nextInt(shards.length)];
+            if (shard.lock.tryLock()) {
+                try {
+                    shard.push(item);
+                } finally {
+                    shard.lock.unlock();
+                }
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public T pollMin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Shard<T> shard = shards[random.nextInt(shards.length)];
+            if (shards.length > 1) {
+                Shard<T> other = shards[random.nextInt(shards.length)];
+                T top = shard.top;
+                T otherTop = other.top;
+                if (top == null || (otherTop != null && otherTop.compareTo(top) < 0)) {
+                    shard = other;
+                }
+            }
+            if (shard.top == null) {
+                // Both picks were empty. Only give up if every shard is.
+                if (allEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            if (shard.lock.tryLock()) {
+                try {
+                    // The top may have been taken between reading it and locking.
+                    if (!shard.heap.isEmpty()) {
+                        size.decrementAndGet();
+                        return shard.pop();
+                    }
+                } finally {
+                    shard.lock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return Math.max(size.get(), 0);
+    }
+
+    private boolean allEmpty() {
+        for (Shard<T> shard : shards) {
+            if (shard.top != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One LazyArrayHeap, which has no position map and so accepts duplicates. Only touched
+     * while its lock is held, except for 'top', which other threads read to choose a shard.
+     */
+    private static class Shard<T extends Comparable<T>> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LazyArrayHeap<T> heap = new LazyArrayHeap<>(DEFAULT_SHARD_CAPACITY);
+        private volatile T top;
+
+        void push(T item) {
+            heap.add(item);
+            top = heap.peekMin();
+        }
+
+        T pop() {
+            T min = heap.removeMin();
+            top = heap.isEmpty() ? null : heap.peekMin();
+            return min;
+        }
+    }
+}
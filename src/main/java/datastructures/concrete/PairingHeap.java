@@ -0,0 +1,299 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+/**
+ * A pairing heap: a heap-ordered tree where any node may have any number of children. Adding
+ * an item or lowering it is O(1), since it only links one tree under another, and removeMin
+ * is O(log n) amortized, done by merging the root's children in two passes.
+ *
+ * That suits searches that add and decrease far more often than they remove, such as
+ * Dijkstra's algorithm on dense Voronoi mazes with six to eight neighbors per room.
+ *
+ * Items are found through a map from item to node, as IPriorityQueue requires. Callers that
+ * keep the Handle returned by insert can replace and remove through it instead, which skips
+ * the lookup.
+ *
+ * @see IPriorityQueue for details on what each method must do.
+ */
+public class PairingHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Node<T> root;
+    private IDictionary<T, Node<T>> nodes;
+
+    /**
+     * A reference to an item's place in a PairingHeap. It stays valid until the item is
+     * removed, or replaced by a different item through the heap's IPriorityQueue methods.
+     */
+    public interface Handle<T> {
+        /**
+         * Returns the item this handle refers to.
+         */
+        T getItem();
+    }
+
+    private static class Node<T> implements Handle<T> {
+        private T item;
+        private Node<T> child;
+        private Node<T> sibling;
+        // The parent if this node is its first child; otherwise the sibling to its left.
+        private Node<T> prev;
+
+        Node(T item) {
+            this.item = item;
+        }
+
+        @Override
+        public T getItem() {
+            return item;
+        }
+    }
+
+    public PairingHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap with room for 'capacity' items before its map needs to grow.
+     */
+    public PairingHeap(int capacity) {
+        this.root = null;
+        this.nodes = ChainedHashDictionary.withExpectedSize(capacity);
+    }
+
+    @Override
+    public T removeMin() {
+        T min = peekMin();
+        nodes.remove(min);
+        root = combineSiblings(root.child);
+        return min;
+    }
+
+    @Override
+    public T peekMin() {
+        if (root == null) {
+            throw new EmptyContainerException();
+        }
+        return root.item;
+    }
+
+    @Override
+    public void add(T item) {
+        insert(item);
+    }
+
+    /**
+     * Adds the given item into the heap and returns a handle to it.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     * @throws InvalidElementException  if item is already in the heap
+     */
+    public Handle<T> insert(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (nodes.containsKey(item)) {
+            throw new InvalidElementException();
+        }
+        Node<T> node = new Node<>(item);
+        nodes.put(item, node);
+        root = root == null ? node : link(root, node);
+        return node;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        return nodes.containsKey(item);
+    }
+
+    @Override
+    public void remove(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (!nodes.containsKey(item)) {
+            throw new InvalidElementException();
+        }
+        remove(nodes.get(item));
+    }
+
+    /**
+     * Removes the item the given handle refers to.
+     *
+     * @throws InvalidElementException  if the handle's item is no longer in the heap
+     */
+    public void remove(Handle<T> handle) {
+        Node<T> node = nodeOf(handle);
+        nodes.remove(node.item);
+        detach(node);
+    }
+
+    @Override
+    public void replace(T oldItem, T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException();
+        }
+        if (oldItem == null || !nodes.containsKey(oldItem)) {
+            throw new InvalidElementException();
+        }
+        replace(nodes.get(oldItem), newItem);
+    }
+
+    /**
+     * Replaces the item the given handle refers to with a new item. The handle then refers to
+     * the new item. This is O(1) if the new item is no greater than the old one.
+     *
+     * @throws IllegalArgumentException  if the new item is null
+     * @throws InvalidElementException  if the handle's item is no longer in the heap, or if the
+     *                                  new item is already in the heap
+     */
+    public void replace(Handle<T> handle, T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException();
+        }
+        Node<T> node = nodeOf(handle);
+        if (nodes.containsKey(newItem)) {
+            throw new InvalidElementException();
+        }
+        nodes.remove(node.item);
+        nodes.put(newItem, node);
+        int distance = newItem.compareTo(node.item);
+        node.item = newItem;
+        if (node == root || distance == 0) {
+            if (distance > 0) {
+                reinsert(node);
+            }
+        } else if (distance < 0) {
+            // Only the link to its parent can be out of order, so cut it and relink.
+            cut(node);
+            root = link(root, node);
+        } else {
+            reinsert(node);
+        }
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Takes the node out of the tree and puts it back in, for when its item has grown.
+     */
+    private void reinsert(Node<T> node) {
+        detach(node);
+        node.child = null;
+        root = root == null ? node : link(root, node);
+    }
+
+    /**
+     * Takes the node out of the tree, putting its children back in its place.
+     */
+    private void detach(Node<T> node) {
+        if (node == root) {
+            root = combineSiblings(node.child);
+        } else {
+            cut(node);
+            Node<T> children = combineSiblings(node.child);
+            if (children != null) {
+                root = link(root, children);
+            }
+        }
+    }
+
+    private Node<T> nodeOf(Handle<T> handle) {
+        if (!(handle instanceof Node)) {
+            throw new InvalidElementException();
+        }
+        Node<T> node = (Node<T>) handle;
+        if (nodes.getOrDefault(node.item, null) != node) {
+            throw new InvalidElementException();
+        }
+        return node;
+    }
+
+    /**
+     * Makes the root with the larger item the first child of the other, and returns the
+     * root that is left. Both must be roots with no siblings.
+     */
+    private Node<T> link(Node<T> a, Node<T> b) {
+        if (b.item.compareTo(a.item) < 0) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.prev = a;
+        b.sibling = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Unhooks a non-root node (with its subtree) from its parent and siblings.
+     */
+    private void cut(Node<T> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        node.prev = null;
+        node.sibling = null;
+    }
+
+    /**
+     * Merges a list of sibling trees into one and returns its root. The first pass links them
+     * in pairs from left to right; the second links the pairs from right to left. Both passes
+     * are loops, so long sibling lists can't overflow the stack.
+     */
+    private Node<T> combineSiblings(Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+        // First pass. The pairs are chained through 'sibling' in reverse order.
+        Node<T> pairs = null;
+        Node<T> curr = first;
+        while (curr != null) {
+            Node<T> a = curr;
+            Node<T> b = a.sibling;
+            a.prev = null;
+            a.sibling = null;
+            if (b == null) {
+                a.sibling = pairs;
+                pairs = a;
+                break;
+            }
+            curr = b.sibling;
+            b.prev = null;
+            b.sibling = null;
+            Node<T> merged = link(a, b);
+            merged.sibling = pairs;
+            pairs = merged;
+        }
+        // Second pass.
+        Node<T> result = pairs;
+        Node<T> rest = pairs.sibling;
+        result.sibling = null;
+        while (rest != null) {
+            Node<T> next = rest.sibling;
+            rest.sibling = null;
+            result = link(result, rest);
+            rest = next;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,275 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IDoubleIntPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+import java.util.Arrays;
+
+/**
+ * A monotone radix heap of int ids. Priorities are rounded to integer keys, so every
+ * operation is O(1) amortized (plus O(log C) to empty a bucket, where C is the largest key)
+ * rather than the O(log n) of a comparison heap.
+ *
+ * Priorities are first multiplied by a 'scale' and rounded to the nearest long. With a scale of
+ * 1 and integral priorities nothing is lost; otherwise priorities closer together than
+ * 1 / scale come out of the heap in no particular order. peekMinPriority and priorityOf report
+ * the rounded value.
+ *
+ * The heap is monotone: no key may be added that is smaller than the last key removed. That
+ * always holds for Dijkstra's algorithm on non-negative edge weights, and is checked.
+ *
+ * Buckets are intrusive doubly-linked lists threaded through id-indexed int arrays, so nothing
+ * is allocated per operation once the arrays have grown to fit.
+ *
+ * @see IDoubleIntPriorityQueue for details on what each method must do.
+ */
+public class RadixHeap implements IDoubleIntPriorityQueue {
+    private static final int DEFAULT_CAPACITY = 50;
+    // Bucket 0 holds keys equal to 'last'; bucket b > 0 holds keys whose highest bit differing
+    // from 'last' is bit b - 1.
+    private static final int NUM_BUCKETS = 65;
+    private static final int NONE = -1;
+    // Keys must stay below this so that 'priority * scale' is still exact as a double.
+    private static final double MAX_KEY = (double) (1L << 53);
+
+    private final double scale;
+
+    // The smallest key removed so far; every key in the heap is at least this.
+    private long last;
+    private int size;
+
+    private final int[] bucketHeads;
+    // Per-id state: its key, the bucket it is in (or NONE), and its neighbors in that bucket.
+    private long[] keys;
+    private int[] bucketOf;
+    private int[] next;
+    private int[] prev;
+
+    public RadixHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap for integral priorities, with room for ids in [0, capacity).
+     */
+    public RadixHeap(int capacity) {
+        this(capacity, 1.0);
+    }
+
+    /**
+     * Creates a heap that rounds every priority to a multiple of 1 / scale.
+     *
+     * @throws IllegalArgumentException  if scale is not a positive, finite number
+     */
+    public RadixHeap(int capacity, double scale) {
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException();
+        }
+        capacity = Math.max(capacity, 1);
+        this.scale = scale;
+        this.last = 0;
+        this.size = 0;
+        this.bucketHeads = new int[NUM_BUCKETS];
+        Arrays.fill(this.bucketHeads, NONE);
+        this.keys = new long[capacity];
+        this.bucketOf = new int[capacity];
+        Arrays.fill(this.bucketOf, NONE);
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the id is negative, or the priority is negative,
+     *                                   not finite, or rounds to less than the last key removed
+     */
+    @Override
+    public void add(int id, double priority) {
+        long key = toKey(id, priority);
+        ensureIdCapacity(id);
+        if (bucketOf[id] != NONE) {
+            throw new InvalidElementException();
+        }
+        keys[id] = key;
+        link(id, bucketFor(key));
+        size++;
+    }
+
+    @Override
+    public boolean addOrDecrease(int id, double priority) {
+        long key = toKey(id, priority);
+        if (!contains(id)) {
+            add(id, priority);
+            return true;
+        }
+        if (key < keys[id]) {
+            moveTo(id, key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void decreaseKey(int id, double priority) {
+        long key = toKey(id, priority);
+        if (!contains(id)) {
+            throw new InvalidElementException();
+        }
+        if (key > keys[id]) {
+            throw new IllegalArgumentException();
+        }
+        moveTo(id, key);
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return id >= 0 && id < bucketOf.length && bucketOf[id] != NONE;
+    }
+
+    @Override
+    public double priorityOf(int id) {
+        if (!contains(id)) {
+            throw new InvalidElementException();
+        }
+        return keys[id] / scale;
+    }
+
+    @Override
+    public int peekMin() {
+        settle();
+        return bucketHeads[0];
+    }
+
+    @Override
+    public double peekMinPriority() {
+        settle();
+        return last / scale;
+    }
+
+    @Override
+    public int removeMin() {
+        settle();
+        int id = bucketHeads[0];
+        unlink(id);
+        size--;
+        return id;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every id and forgets the last key removed, so that small keys may be added again.
+     */
+    @Override
+    public void clear() {
+        for (int b = 0; b < NUM_BUCKETS; b++) {
+            for (int id = bucketHeads[b]; id != NONE; id = next[id]) {
+                bucketOf[id] = NONE;
+            }
+            bucketHeads[b] = NONE;
+        }
+        size = 0;
+        last = 0;
+    }
+
+    /**
+     * Makes sure bucket 0 is non-empty: if it is empty, finds the first non-empty bucket, makes
+     * its smallest key the new 'last', and spreads its ids over the lower buckets. Each id can
+     * only move to a lower bucket, which is where the amortized bound comes from.
+     */
+    private void settle() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        if (bucketHeads[0] != NONE) {
+            return;
+        }
+        int b = 1;
+        while (bucketHeads[b] == NONE) {
+            b++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int id = bucketHeads[b]; id != NONE; id = next[id]) {
+            min = Math.min(min, keys[id]);
+        }
+        last = min;
+        int id = bucketHeads[b];
+        bucketHeads[b] = NONE;
+        while (id != NONE) {
+            int following = next[id];
+            link(id, bucketFor(keys[id]));
+            id = following;
+        }
+    }
+
+    private void moveTo(int id, long key) {
+        keys[id] = key;
+        int bucket = bucketFor(key);
+        if (bucket != bucketOf[id]) {
+            unlink(id);
+            link(id, bucket);
+        }
+    }
+
+    private int bucketFor(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int id, int bucket) {
+        int head = bucketHeads[bucket];
+        bucketOf[id] = bucket;
+        prev[id] = NONE;
+        next[id] = head;
+        if (head != NONE) {
+            prev[head] = id;
+        }
+        bucketHeads[bucket] = id;
+    }
+
+    private void unlink(int id) {
+        int before = prev[id];
+        int after = next[id];
+        if (before == NONE) {
+            bucketHeads[bucketOf[id]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+        bucketOf[id] = NONE;
+    }
+
+    /**
+     * Rounds a priority to its key, checking the id and the monotonicity of the heap.
+     */
+    private long toKey(int id, double priority) {
+        if (id < 0) {
+            throw new IllegalArgumentException();
+        }
+        double scaled = Math.rint(priority * scale);
+        if (!(scaled >= 0) || scaled >= MAX_KEY) {
+            throw new IllegalArgumentException();
+        }
+        long key = (long) scaled;
+        if (key < last) {
+            throw new IllegalArgumentException("Key " + key + " is below the last removed key " + last);
+        }
+        return key;
+    }
+
+    private void ensureIdCapacity(int id) {
+        if (id >= bucketOf.length) {
+            int oldLength = bucketOf.length;
+            int newLength = Math.max(id + 1, oldLength * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            bucketOf = Arrays.copyOf(bucketOf, newLength);
+            Arrays.fill(bucketOf, oldLength, newLength, NONE);
+            next = Arrays.copyOf(next, newLength);
+            prev = Arrays.copyOf(prev, newLength);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.ISet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A read-only set computed on the fly from two other sets, which backs ChainedHashSet's and
+ * ConcurrentHashSet's union(...), difference(...) and intersection(...) methods.
+ *
+ * A view copies nothing: contains(...) asks the two underlying sets, and iterating it walks
+ * them. This means a view reflects later changes to those sets, and that size() takes time
+ * linear in the size of the underlying sets.
+ *
+ * @see ISet
+ */
+public abstract class SetView<T> implements ISet<T> {
+    /**
+     * Returns a view of every item in 'first' or in 'second'.
+     */
+    public static <T> ISet<T> union(ISet<T> first, ISet<T> second) {
+        return new SetView<T>() {
+            @Override
+            public boolean contains(T item) {
+                return first.contains(item) || second.contains(item);
+            }
+
+            @Override
+            public void forEach(Consumer<? super T> action) {
+                first.forEach(action);
+                second.forEach(item -> {
+                    if (!first.contains(item)) {
+                        action.accept(item);
+                    }
+                });
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                Iterator<T> rest = new FilteredIterator<>(second.iterator(), item -> !first.contains(item));
+                return new ConcatIterator<>(first.iterator(), rest);
+            }
+        };
+    }
+
+    /**
+     * Returns a view of every item in 'first' that is not in 'second'.
+     */
+    public static <T> ISet<T> difference(ISet<T> first, ISet<T> second) {
+        return filter(first, item -> !second.contains(item));
+    }
+
+    /**
+     * Returns a view of every item in both 'first' and 'second'.
+     */
+    public static <T> ISet<T> intersection(ISet<T> first, ISet<T> second) {
+        return filter(first, second::contains);
+    }
+
+    private static <T> ISet<T> filter(ISet<T> base, Predicate<T> keep) {
+        return new SetView<T>() {
+            @Override
+            public boolean contains(T item) {
+                return base.contains(item) && keep.test(item);
+            }
+
+            @Override
+            public void forEach(Consumer<? super T> action) {
+                base.forEach(item -> {
+                    if (keep.test(item)) {
+                        action.accept(item);
+                    }
+                });
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return new FilteredIterator<>(base.iterator(), keep);
+            }
+        };
+    }
+
+    /**
+     * Views are read-only.
+     *
+     * @throws UnsupportedOperationException  always
+     */
+    @Override
+    public void add(T item) {
+        throw new UnsupportedOperationException("Set views are read-only");
+    }
+
+    /**
+     * Views are read-only.
+     *
+     * @throws UnsupportedOperationException  always
+     */
+    @Override
+    public void remove(T item) {
+        throw new UnsupportedOperationException("Set views are read-only");
+    }
+
+    @Override
+    public int size() {
+        int[] count = {0};
+        this.forEach(item -> count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !this.iterator().hasNext();
+    }
+
+    /**
+     * Returns a view of this view and 'other'.
+     */
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        return union(this, other);
+    }
+
+    /**
+     * Returns a view of this view and 'other'.
+     */
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        return difference(this, other);
+    }
+
+    /**
+     * Returns a view of this view and 'other'.
+     */
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        return intersection(this, other);
+    }
+
+    private static class FilteredIterator<T> implements Iterator<T> {
+        private final Iterator<T> iter;
+        private final Predicate<T> keep;
+        private T next;
+        private boolean hasNext; // Whether 'next' holds an item we have yet to return.
+
+        public FilteredIterator(Iterator<T> iter, Predicate<T> keep) {
+            this.iter = iter;
+            this.keep = keep;
+            this.hasNext = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.hasNext && this.iter.hasNext()) {
+                T item = this.iter.next();
+                if (this.keep.test(item)) {
+                    this.next = item;
+                    this.hasNext = true;
+                }
+            }
+            return this.hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.hasNext = false;
+            return this.next;
+        }
+    }
+
+    private static class ConcatIterator<T> implements Iterator<T> {
+        private final Iterator<T> first;
+        private final Iterator<T> second;
+
+        public ConcatIterator(Iterator<T> first, Iterator<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.first.hasNext() || this.second.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return this.first.hasNext() ? this.first.next() : this.second.next();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A doubly-linked list whose nodes each hold a small array of items.
+ *
+ * Adding or removing at either end takes constant time, as in DoubleLinkedList, but there is
+ * one node per block of items rather than per item, and iteration mostly reads consecutive
+ * array slots. A full node splits in two when something is inserted into it, and a node that
+ * falls below half full after a delete absorbs its successor if they fit together.
+ *
+ * @see IList for more details on what each method is supposed to do.
+ */
+public class UnrolledLinkedList<T> implements IList<T> {
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+
+    // Invariants:
+    // - Every node holds between 1 and nodeCapacity items, in items[0..count).
+    // - size is the sum of the nodes' counts.
+    private Node<T> front;
+    private Node<T> back;
+    private int size;
+
+    // The most recently located node and the index of its first item, so that walking the
+    // list by index rarely has to start from either end. Null when there is no such node.
+    private Node<T> cache;
+    private int cacheStart;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates a list whose nodes each hold up to 'nodeCapacity' items.
+     *
+     * @throws IllegalArgumentException  if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Nodes must hold at least two items");
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.cache = null;
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.back == null || this.back.count == this.nodeCapacity) {
+            this.linkAfter(this.back, new Node<>(this.nodeCapacity));
+        }
+        this.back.items[this.back.count] = item;
+        this.back.count++;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        Node<T> node = this.back;
+        node.count--;
+        T item = node.items[node.count];
+        node.items[node.count] = null;
+        this.size--;
+        if (node.count == 0) {
+            this.unlink(node);
+        }
+        return item;
+    }
+
+    @Override
+    public T get(int index) {
+        this.ensureIndexBound(index);
+        Node<T> node = this.nodeAt(index);
+        return node.items[index - this.cacheStart];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.ensureIndexBound(index);
+        Node<T> node = this.nodeAt(index);
+        node.items[index - this.cacheStart] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index >= this.size + 1) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == this.size) {
+            this.add(item);
+            return;
+        }
+
+        Node<T> node = this.nodeAt(index);
+        int start = this.cacheStart;
+        if (node.count == this.nodeCapacity) {
+            Node<T> right = this.split(node);
+            if (index - start > node.count) {
+                start += node.count;
+                node = right;
+            }
+        }
+        int offset = index - start;
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = item;
+        node.count++;
+        this.size++;
+
+        this.cache = node;
+        this.cacheStart = start;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.ensureIndexBound(index);
+
+        Node<T> node = this.nodeAt(index);
+        int start = this.cacheStart;
+        int offset = index - start;
+        T item = node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.count--;
+        node.items[node.count] = null;
+        this.size--;
+
+        if (node.count == 0) {
+            this.unlink(node);
+            return item;
+        }
+        Node<T> next = node.next;
+        if (node.count < this.nodeCapacity / 2 && next != null && node.count + next.count <= this.nodeCapacity) {
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            this.unlink(next);
+        }
+        this.cache = node;
+        this.cacheStart = start;
+        return item;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int start = 0;
+        for (Node<T> node = this.front; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.items[i], item)) {
+                    return start + i;
+                }
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator<>(this.front);
+    }
+
+    /**
+     * Like DoubleLinkedList's, splits off ever larger batches from the front, copying a node's
+     * items with one arraycopy at a time.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new UnrolledLinkedListSpliterator<>(this.front, this.size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (Node<T> node = this.front; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                action.accept(node.items[i]);
+            }
+        }
+    }
+
+    private void ensureIndexBound(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns the node holding the given index, starting from whichever of the front, the back
+     * and the cached node is closest. Caches the node it finds, and its start index.
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> node;
+        int start;
+        if (index < this.size / 2) {
+            node = this.front;
+            start = 0;
+        } else {
+            node = this.back;
+            start = this.size - this.back.count;
+        }
+        if (this.cache != null && Math.abs(index - this.cacheStart) < Math.abs(index - start)) {
+            node = this.cache;
+            start = this.cacheStart;
+        }
+
+        while (index >= start + node.count) {
+            start += node.count;
+            node = node.next;
+        }
+        while (index < start) {
+            node = node.prev;
+            start -= node.count;
+        }
+
+        this.cache = node;
+        this.cacheStart = start;
+        return node;
+    }
+
+    /**
+     * Moves the upper half of the given full node into a new node just after it, and returns
+     * the new node.
+     */
+    private Node<T> split(Node<T> node) {
+        Node<T> right = new Node<>(this.nodeCapacity);
+        int keep = node.count / 2;
+        right.count = node.count - keep;
+        System.arraycopy(node.items, keep, right.items, 0, right.count);
+        for (int i = keep; i < node.count; i++) {
+            node.items[i] = null;
+        }
+        node.count = keep;
+        this.linkAfter(node, right);
+        return right;
+    }
+
+    /**
+     * Links the given node in after 'pred', or at the front if 'pred' is null.
+     */
+    private void linkAfter(Node<T> pred, Node<T> node) {
+        Node<T> succ = pred == null ? this.front : pred.next;
+        node.prev = pred;
+        node.next = succ;
+        if (pred == null) {
+            this.front = node;
+        } else {
+            pred.next = node;
+        }
+        if (succ == null) {
+            this.back = node;
+        } else {
+            succ.prev = node;
+        }
+    }
+
+    /**
+     * Removes the given node from the chain. Its items are not counted here, so callers
+     * adjust 'size' themselves.
+     */
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            this.front = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            this.back = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        if (this.cache == node) {
+            this.cache = null;
+        }
+    }
+
+    private static class Node<E> {
+        public final E[] items;
+        public int count;
+        public Node<E> prev;
+        public Node<E> next;
+
+        @SuppressWarnings("unchecked")
+        public Node(int capacity) {
+            // See ArrayDictionary's makeArrayOfPairs(...) method for why we need this cast.
+            this.items = (E[]) new Object[capacity];
+            this.count = 0;
+        }
+    }
+
+    private static class UnrolledLinkedListSpliterator<T> implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> node; // Node holding the next item to hand out; null once we're done.
+        private int offset; // Position of that item within the node.
+        private int remaining;
+        private int batch; // Size of the last batch split off.
+
+        // Like the other iterators, assumes the list isn't modified mid-traversal.
+        public UnrolledLinkedListSpliterator(Node<T> front, int size) {
+            this.node = front;
+            this.offset = 0;
+            this.remaining = size;
+            this.batch = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.node == null) {
+                return false;
+            }
+            T item = this.node.items[this.offset];
+            this.offset++;
+            if (this.offset == this.node.count) {
+                this.node = this.node.next;
+                this.offset = 0;
+            }
+            this.remaining--;
+            action.accept(item);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> curr = this.node;
+            int start = this.offset;
+            this.node = null;
+            this.remaining = 0;
+            for (; curr != null; curr = curr.next) {
+                for (int i = start; i < curr.count; i++) {
+                    action.accept(curr.items[i]);
+                }
+                start = 0;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] prefix = new Object[n];
+            int copied = 0;
+            while (copied < n) {
+                int chunk = Math.min(this.node.count - this.offset, n - copied);
+                System.arraycopy(this.node.items, this.offset, prefix, copied, chunk);
+                copied += chunk;
+                this.offset += chunk;
+                if (this.offset == this.node.count) {
+                    this.node = this.node.next;
+                    this.offset = 0;
+                }
+            }
+            this.batch = n;
+            this.remaining -= n;
+            return Spliterators.spliterator(prefix, 0, n, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    private static class UnrolledLinkedListIterator<T> implements Iterator<T> {
+        private Node<T> node; // Node holding the next item to return; null once we're done.
+        private int offset; // Position of that item within the node.
+
+        // Like the other iterators, assumes the list isn't modified mid-iteration.
+        public UnrolledLinkedListIterator(Node<T> front) {
+            this.node = front;
+            this.offset = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.node != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.node == null) {
+                throw new NoSuchElementException();
+            }
+            T item = this.node.items[this.offset];
+            this.offset++;
+            if (this.offset == this.node.count) {
+                this.node = this.node.next;
+                this.offset = 0;
+            }
+            return item;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
 
 /**
  * @see datastructures.interfaces.IDictionary
  */
-public class ArrayDictionary<K, V> implements IDictionary<K, V> {
+public class ArrayDictionary<K, V> implements IDictionary<K, V>, IndexedEntries<K, V> {
     // You may not change or rename this field.
     // We will be inspecting it in our private tests.
     private Pair<K, V>[] pairs;
@@ -23,7 +26,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         this(DEFAULT_SIZE);
     }
 
-    private ArrayDictionary(int size) {
+    ArrayDictionary(int size) {
         this.pairs = makeArrayOfPairs(size);
         this.size = 0;
     }
@@ -125,6 +128,73 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         return new ArrayDictionaryIterator<K, V>(pairs, size);
     }
 
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new IndexedEntriesSpliterator<>(this, 0, size);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(pairs[i].key, pairs[i].value);
+        }
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ArrayDictionaryCursor<>(this);
+    }
+
+    @Override
+    public K keyAt(int index) {
+        return pairs[index].key;
+    }
+
+    @Override
+    public V valueAt(int index) {
+        return pairs[index].value;
+    }
+
+    private static class ArrayDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final ArrayDictionary<K, V> dict;
+        private int index; // Position of the current entry; -1 before the first.
+
+        public ArrayDictionaryCursor(ArrayDictionary<K, V> dict) {
+            this.dict = dict;
+            this.index = -1;
+        }
+
+        @Override
+        public boolean advance() {
+            if (this.index < this.dict.size) {
+                this.index++;
+            }
+            return this.index < this.dict.size;
+        }
+
+        @Override
+        public K getKey() {
+            this.checkPositioned();
+            return this.dict.pairs[this.index].key;
+        }
+
+        @Override
+        public V getValue() {
+            this.checkPositioned();
+            return this.dict.pairs[this.index].value;
+        }
+
+        @Override
+        public void reset() {
+            this.index = -1;
+        }
+
+        private void checkPositioned() {
+            if (this.index < 0 || this.index >= this.dict.size) {
+                throw new IllegalStateException("Cursor is not positioned on an entry");
+            }
+        }
+    }
 
     private static class ArrayDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
         private Pair<K, V>[] arr;
@@ -1,16 +1,33 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
+ *
+ * By default, growing the table rehashes every entry at once inside the put that crossed
+ * the load factor. In incremental mode the old and new tables instead coexist for a while:
+ * every put and remove moves at most MIGRATION_STEP old buckets into the new table, and
+ * lookups check both tables, so no single operation pays for the whole rehash.
+ *
+ * (Lookups deliberately don't migrate: callers commonly call get() while iterating, and
+ * moving entries around underneath a live iterator would make it skip or repeat some.)
+ *
+ * Buckets start out as small ArrayDictionaries. A bucket that grows to TREEIFY_THRESHOLD
+ * entries is converted to a SortedBucket, which finds keys by binary searching their hash
+ * codes, so a badly distributed key set can't make lookups scan long chains.
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     private final double lambda;
+    private final boolean incremental;
 
     // You MUST use this field to store the contents of your dictionary.
     // You may not change or rename this field: we will be inspecting
@@ -20,20 +37,61 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     // You're encouraged to add extra fields (and helper methods) though!
     private int size;
 
+    // Only used in incremental mode, while a resize is in progress. Buckets below
+    // 'migrateIndex' have already been moved into 'chains' (and are set to null here);
+    // a key lives in 'oldChains' iff its old bucket hasn't been migrated yet.
+    private IDictionary<K, V>[] oldChains;
+    private int migrateIndex;
+
+    // Null unless enableStats() has been called.
+    private HashTableStats stats;
+
     public static final int DEFAULT_CAP = 100;
+    private static final double DEFAULT_LAMBDA = 3.0;
+
+    // A bucket switches from an ArrayDictionary to a SortedBucket once it holds TREEIFY_THRESHOLD
+    // entries, and back once it shrinks to UNTREEIFY_THRESHOLD. The gap keeps a bucket whose
+    // size hovers around the threshold from converting back and forth on every put and remove.
+    public static final int TREEIFY_THRESHOLD = 8;
+    public static final int UNTREEIFY_THRESHOLD = 6;
+
+    // The most old buckets a single operation migrates during an incremental resize.
+    public static final int MIGRATION_STEP = 8;
 
     public ChainedHashDictionary() {
-        this(3.0);
+        this(DEFAULT_LAMBDA);
     }
 
     public ChainedHashDictionary(double lambda) {
-        this(lambda, DEFAULT_CAP);
+        this(lambda, false);
+    }
+
+    /**
+     * Returns a dictionary with enough buckets for 'expectedSize' entries, so that filling
+     * it up to that size never triggers a resize.
+     *
+     * (This is a factory rather than a constructor so that an int argument can't be mistaken
+     * for the lambda taken by ChainedHashDictionary(double).)
+     */
+    public static <K, V> ChainedHashDictionary<K, V> withExpectedSize(int expectedSize) {
+        return new ChainedHashDictionary<>(DEFAULT_LAMBDA, capacityFor(expectedSize, DEFAULT_LAMBDA), false);
     }
 
-    private ChainedHashDictionary(double lambda, int cap) {
+    /**
+     * Creates a dictionary that, if 'incremental' is true, spreads the work of each
+     * resize across the operations that follow it.
+     */
+    public ChainedHashDictionary(double lambda, boolean incremental) {
+        this(lambda, DEFAULT_CAP, incremental);
+    }
+
+    private ChainedHashDictionary(double lambda, int cap, boolean incremental) {
         this.chains = makeArrayOfChains(cap);
         this.size = 0;
         this.lambda = lambda;
+        this.incremental = incremental;
+        this.oldChains = null;
+        this.migrateIndex = 0;
     }
 
     /**
@@ -52,9 +110,9 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public V get(K key) {
-        int index = indexHelper(key, chains.length);
-        if (chains[index] != null) {
-            return chains[index].get(key);
+        IDictionary<K, V> chain = chainFor(key);
+        if (chain != null) {
+            return chain.get(key);
         }
 
         throw new NoSuchKeyException(); // Catchall throw;
@@ -62,9 +120,9 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public V getOrDefault(K key, V defaultValue) {
-        int index = indexHelper(key, chains.length);
-        if (chains[index] != null) {
-            return chains[index].getOrDefault(key, defaultValue);
+        IDictionary<K, V> chain = chainFor(key);
+        if (chain != null) {
+            return chain.getOrDefault(key, defaultValue);
         }
 
         return defaultValue;
@@ -75,39 +133,63 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         // Resize if needed.
         if (1.0 * size / chains.length >= lambda) {
             doResize();
+        } else if (oldChains != null) {
+            migrateStep();
         }
 
-        int index = indexHelper(key, chains.length);
-        if (chains[index] == null) {
-            chains[index] = new ArrayDictionary<>();
-        }
-
-        int prevSize = chains[index].size();
-        chains[index].put(key, value);
-        if (chains[index].size() > prevSize) {
+        if (putInto(tableFor(key), key, value)) {
             size++;
         }
     }
 
     @Override
     public V remove(K key) {
-        int index = indexHelper(key, chains.length);
-        if (chains[index] != null) {
-            V value = chains[index].remove(key);
+        if (oldChains != null) {
+            migrateStep();
+        }
+        IDictionary<K, V>[] table = tableFor(key);
+        int index = indexHelper(key, table.length);
+        IDictionary<K, V> chain = table[index];
+        if (chain != null) {
+            V value = chain.remove(key);
             size--; // If an exception is thrown, we won't get here.
+            if (chain.isEmpty()) {
+                table[index] = null;
+            } else if (chain instanceof SortedBucket && chain.size() <= UNTREEIFY_THRESHOLD) {
+                table[index] = untreeify((SortedBucket<K, V>) chain);
+            }
             return value;
         }
 
         throw new NoSuchKeyException();
     }
 
+    /**
+     * Resizes at most once, up front, to fit every entry in 'other'.
+     */
+    @Override
+    public void putAll(IDictionary<? extends K, ? extends V> other) {
+        int capacity = capacityFor(size + other.size(), lambda);
+        if (capacity > chains.length) {
+            long start = stats != null ? System.nanoTime() : 0;
+            if (oldChains != null) {
+                migrateBuckets(oldChains.length);
+            }
+            rehash(capacity);
+            if (stats != null) {
+                stats.recordResize(System.nanoTime() - start, true);
+            }
+        }
+        other.forEach(this::put);
+    }
+
     @Override
     public boolean containsKey(K key) {
-        int index = indexHelper(key, chains.length);
-        if (chains[index] == null) {
+        IDictionary<K, V> chain = chainFor(key);
+        if (chain == null) {
             return false;
         }
-        return chains[index].containsKey(key);
+        return chain.containsKey(key);
     }
 
     @Override
@@ -117,8 +199,229 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
-        return new ChainedIterator<>(this.chains, this.size);
+        return new ChainedIterator<>(this.oldChains, this.chains, this.size);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (oldChains != null) {
+            forEachIn(oldChains, action);
+        }
+        forEachIn(chains, action);
+    }
+
+    private static <K, V> void forEachIn(IDictionary<K, V>[] table, BiConsumer<? super K, ? super V> action) {
+        for (IDictionary<K, V> chain : table) {
+            if (chain != null) {
+                chain.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Splits by bucket range. While a resize is in progress, the buckets still waiting in the
+     * old table come first in that range.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        int oldLength = oldChains != null ? oldChains.length : 0;
+        return new ChainedSpliterator<>(oldChains, chains, 0, oldLength + chains.length, size);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ChainedCursor<>(this);
+    }
+
+    /**
+     * Starts collecting statistics about this dictionary, if it isn't already, and returns them.
+     * The histogram counts buckets by the number of entries they hold.
+     */
+    public HashTableStats enableStats() {
+        if (stats == null) {
+            stats = new HashTableStats(new HashTableStats.Table() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public int capacity() {
+                    return chains.length;
+                }
+
+                @Override
+                public int fillHistogram(long[] histogram) {
+                    IDictionary<K, V>[] old = oldChains;
+                    int max = 0;
+                    if (old != null) {
+                        // Buckets below migrateIndex have already moved into the new table.
+                        for (int i = migrateIndex; i < old.length; i++) {
+                            max = Math.max(max, countChain(old[i], histogram));
+                        }
+                    }
+                    for (IDictionary<K, V> chain : chains) {
+                        max = Math.max(max, countChain(chain, histogram));
+                    }
+                    return max;
+                }
+            });
+        }
+        return stats;
+    }
+
+    private static int countChain(IDictionary<?, ?> chain, long[] histogram) {
+        int length = chain == null ? 0 : chain.size();
+        histogram[Math.min(length, histogram.length - 1)]++;
+        return length;
+    }
+
+    /**
+     * Walks the buckets by position (every bucket is an ArrayDictionary or a SortedBucket, both
+     * of which implement IndexedEntries), so stepping through the table allocates nothing.
+     */
+    private static class ChainedSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final IDictionary<K, V>[] oldChains; // Null unless a resize is in progress.
+        private final IDictionary<K, V>[] chains;
+        private int bucket; // Next bucket to walk, counting the old table's buckets first.
+        private final int fence; // One past the last bucket in range.
+        private IndexedEntries<K, V> chain; // The bucket being walked, or null between buckets.
+        private int entry; // Next entry to hand out from 'chain'.
+        private long estimate;
+
+        // Like ChainedIterator, assumes the dictionary isn't modified mid-traversal.
+        public ChainedSpliterator(IDictionary<K, V>[] oldChains, IDictionary<K, V>[] chains,
+                                  int bucket, int fence, long estimate) {
+            this.oldChains = oldChains;
+            this.chains = chains;
+            this.bucket = bucket;
+            this.fence = fence;
+            this.chain = null;
+            this.entry = 0;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (chain == null || entry >= chain.size()) {
+                if (bucket >= fence) {
+                    return false;
+                }
+                chain = bucketAt(bucket);
+                entry = 0;
+                bucket++;
+            }
+            action.accept(new KVPair<>(chain.keyAt(entry), chain.valueAt(entry)));
+            entry++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super KVPair<K, V>> action) {
+            while (true) {
+                if (chain != null) {
+                    for (; entry < chain.size(); entry++) {
+                        action.accept(new KVPair<>(chain.keyAt(entry), chain.valueAt(entry)));
+                    }
+                }
+                if (bucket >= fence) {
+                    return;
+                }
+                chain = bucketAt(bucket);
+                entry = 0;
+                bucket++;
+            }
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            // The bucket being walked stays with this half; entries aren't ordered anyway.
+            int mid = (bucket + fence) >>> 1;
+            if (mid <= bucket) {
+                return null;
+            }
+            estimate >>>= 1;
+            Spliterator<KVPair<K, V>> split = new ChainedSpliterator<>(oldChains, chains, bucket, mid, estimate);
+            bucket = mid;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @SuppressWarnings("unchecked")
+        private IndexedEntries<K, V> bucketAt(int index) {
+            int oldLength = oldChains != null ? oldChains.length : 0;
+            return (IndexedEntries<K, V>) (index < oldLength ? oldChains[index] : chains[index - oldLength]);
+        }
+    }
+
+    private static class ChainedCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final ChainedHashDictionary<K, V> dict;
+        private IDictionary<K, V>[] table; // Table being walked; null once both are done.
+        private int bucket; // Index of the bucket being walked in 'table'.
+        private IndexedEntries<K, V> chain; // The bucket being walked, or null between buckets.
+        private int entry; // Position of the current entry within 'chain'.
+
+        public ChainedCursor(ChainedHashDictionary<K, V> dict) {
+            this.dict = dict;
+            this.reset();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean advance() {
+            if (chain != null && entry + 1 < chain.size()) {
+                entry++;
+                return true;
+            }
+            chain = null;
+            while (table != null) {
+                bucket++;
+                if (bucket == table.length) {
+                    table = table == dict.chains ? null : dict.chains;
+                    bucket = -1;
+                } else if (table[bucket] != null && !table[bucket].isEmpty()) {
+                    chain = (IndexedEntries<K, V>) table[bucket];
+                    entry = 0;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public K getKey() {
+            checkPositioned();
+            return chain.keyAt(entry);
+        }
+
+        @Override
+        public V getValue() {
+            checkPositioned();
+            return chain.valueAt(entry);
+        }
+
+        @Override
+        public void reset() {
+            table = dict.oldChains != null ? dict.oldChains : dict.chains;
+            bucket = -1;
+            chain = null;
+            entry = -1;
+        }
+
+        private void checkPositioned() {
+            if (chain == null) {
+                throw new IllegalStateException("Cursor is not positioned on an entry");
+            }
+        }
     }
 
     /**
@@ -165,6 +468,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
      */
     private static class ChainedIterator<K, V> implements Iterator<KVPair<K, V>> {
         private IDictionary<K, V>[] chains;
+        private IDictionary<K, V>[] nextChains; // Walked once 'chains' runs out, if non-null.
         private int size; // Actual number of elements.
         private int currIndex; // Current number of elements iterated.
         private int arrIndex; // Current index of ArrayDictionary in use.
@@ -175,8 +479,12 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         // 0. Basically - no write changes.
         // 1. The size (# elements) remains the same throughout.
         // 2. The location of the elements remain the same throughout.
-        public ChainedIterator(IDictionary<K, V>[] chains, int size) {
-            this.chains = chains;
+        //
+        // 'first' is the old table while an incremental resize is in progress, and
+        // null otherwise.
+        public ChainedIterator(IDictionary<K, V>[] first, IDictionary<K, V>[] second, int size) {
+            this.chains = first != null ? first : second;
+            this.nextChains = first != null ? second : null;
             this.size = size;
             this.currIndex = 0;
             this.arrIndex = -1;
@@ -198,6 +506,10 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             // as we already checked if there are more elements to iterate through.
             while (curIt == null || !curIt.hasNext()) {
                 arrIndex++;
+                if (arrIndex == chains.length) {
+                    chains = nextChains;
+                    arrIndex = 0;
+                }
                 IDictionary<K, V> dictator = chains[arrIndex];
                 if (dictator != null) {
                     curIt = dictator.iterator();
@@ -211,25 +523,132 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     }
 
     private int indexHelper(K key, int cap) {
-        if (key != null) {
-            int hash = Math.abs(key.hashCode());
-            return hash % cap;
-        } else {
-            return 0;
+        // The table length isn't a power of two, so we take a modulo rather than a mask, but we
+        // still spread the hash first: keys like java.awt.Point vary mostly in their high bits.
+        // Masking off the sign bit (instead of Math.abs) also handles Integer.MIN_VALUE.
+        return (Hashing.hash(key) & 0x7FFFFFFF) % cap;
+    }
+
+    /**
+     * Returns the chain that holds (or would hold) the given key, or null if that bucket is empty.
+     */
+    private IDictionary<K, V> chainFor(K key) {
+        IDictionary<K, V>[] table = tableFor(key);
+        return table[indexHelper(key, table.length)];
+    }
+
+    /**
+     * Returns the table that holds (or would hold) the given key. While an incremental resize
+     * is in progress, that's the old table if the key's old bucket hasn't been migrated yet
+     * and contains it.
+     */
+    private IDictionary<K, V>[] tableFor(K key) {
+        if (oldChains != null) {
+            int oldIndex = indexHelper(key, oldChains.length);
+            if (oldIndex >= migrateIndex && oldChains[oldIndex] != null
+                    && oldChains[oldIndex].containsKey(key)) {
+                return oldChains;
+            }
         }
+        return chains;
+    }
+
+    /**
+     * Puts the pair into its bucket in the given table, creating the bucket or converting it to
+     * a SortedBucket as needed. Returns 'true' if the key wasn't already present.
+     */
+    private boolean putInto(IDictionary<K, V>[] table, K key, V value) {
+        int index = indexHelper(key, table.length);
+        IDictionary<K, V> chain = table[index];
+        if (chain == null) {
+            // Never needs to grow: it becomes a SortedBucket once it's full.
+            chain = new ArrayDictionary<>(TREEIFY_THRESHOLD);
+            table[index] = chain;
+        }
+
+        int prevSize = chain.size();
+        chain.put(key, value);
+        if (chain.size() == prevSize) {
+            return false;
+        }
+        if (chain.size() >= TREEIFY_THRESHOLD && chain instanceof ArrayDictionary) {
+            table[index] = new SortedBucket<>((ArrayDictionary<K, V>) chain);
+        }
+        return true;
+    }
+
+    private static <K, V> IDictionary<K, V> untreeify(SortedBucket<K, V> bucket) {
+        IDictionary<K, V> chain = new ArrayDictionary<>(TREEIFY_THRESHOLD);
+        bucket.forEach(chain::put);
+        return chain;
     }
 
     private void doResize() {
-        IDictionary<K, V>[] newArr = makeArrayOfChains(chains.length * 2);
+        long start = stats != null ? System.nanoTime() : 0;
+        if (oldChains != null) {
+            // The previous resize hasn't finished migrating yet (only possible with a tiny lambda).
+            migrateBuckets(oldChains.length);
+        }
 
-        for (KVPair<K, V> pair : this) {
-            int index = indexHelper(pair.getKey(), newArr.length);
-            if (newArr[index] == null) {
-                newArr[index] = new ArrayDictionary<>();
-            }
-            newArr[index].put(pair.getKey(), pair.getValue());
+        if (incremental) {
+            oldChains = chains;
+            migrateIndex = 0;
+            chains = makeArrayOfChains(chains.length * 2);
+        } else {
+            rehash(chains.length * 2);
+        }
+        if (stats != null) {
+            stats.recordResize(System.nanoTime() - start, true);
         }
+    }
 
+    /**
+     * Does one put or remove's share of an incremental resize.
+     */
+    private void migrateStep() {
+        if (stats == null) {
+            migrateBuckets(MIGRATION_STEP);
+        } else {
+            long start = System.nanoTime();
+            migrateBuckets(MIGRATION_STEP);
+            stats.recordResize(System.nanoTime() - start, false);
+        }
+    }
+
+    /**
+     * Moves every entry into a new table with the given number of buckets, all at once.
+     * Must not be called while an incremental resize is in progress.
+     */
+    private void rehash(int capacity) {
+        IDictionary<K, V>[] newArr = makeArrayOfChains(capacity);
+        forEach((key, value) -> putInto(newArr, key, value));
         chains = newArr;
     }
+
+    /**
+     * Returns the number of buckets needed to hold 'expectedSize' entries without the
+     * average chain length exceeding lambda.
+     */
+    private static int capacityFor(int expectedSize, double lambda) {
+        return (int) Math.max(DEFAULT_CAP, Math.min(Integer.MAX_VALUE - 8, Math.ceil(expectedSize / lambda) + 1));
+    }
+
+    /**
+     * Moves up to 'count' buckets from the old table into the new one, and drops the old
+     * table once every bucket has been moved.
+     */
+    private void migrateBuckets(int count) {
+        int stop = Math.min(oldChains.length, migrateIndex + count);
+        for (; migrateIndex < stop; migrateIndex++) {
+            IDictionary<K, V> chain = oldChains[migrateIndex];
+            if (chain != null) {
+                chain.forEach((key, value) -> putInto(chains, key, value));
+                oldChains[migrateIndex] = null;
+            }
+        }
+        if (migrateIndex == oldChains.length) {
+            oldChains = null;
+            migrateIndex = 0;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,495 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A thread-safe hash dictionary that uses lock striping.
+ *
+ * The table is split into a fixed number of independently locked segments, each of which
+ * is a small chained hash table. A key's segment is picked from the high bits of its
+ * (spread) hash code and its bucket from the low bits, so threads working on different
+ * keys rarely contend for the same lock.
+ *
+ * Every single-key operation is atomic. In addition to the IDictionary methods, this class
+ * provides putIfAbsent, computeIfAbsent and compute, which perform a read-modify-write on
+ * one key atomically.
+ *
+ * size() and iteration are only weakly consistent: they see each segment at some moment
+ * during the call, but not necessarily the whole table at a single moment. The iterator never
+ * throws because of concurrent modification.
+ *
+ * @see IDictionary
+ */
+public class ConcurrentHashDictionary<K, V> implements IDictionary<K, V> {
+    public static final int DEFAULT_STRIPES = 16;
+    private static final int DEFAULT_SEGMENT_CAP = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+
+    public ConcurrentHashDictionary() {
+        this(0, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a dictionary split into the given number of independently locked segments
+     * (rounded up to a power of two). More stripes allow more threads to write at once.
+     *
+     * @throws IllegalArgumentException  if numStripes is not between 1 and 65536
+     */
+    public ConcurrentHashDictionary(int numStripes) {
+        this(0, numStripes);
+    }
+
+    /**
+     * Returns a dictionary with room for 'expectedSize' entries before any segment needs to
+     * grow, split into DEFAULT_STRIPES segments.
+     */
+    public static <K, V> ConcurrentHashDictionary<K, V> withExpectedSize(int expectedSize) {
+        return new ConcurrentHashDictionary<>(expectedSize, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a dictionary with room for 'expectedSize' entries, split into the given number
+     * of independently locked segments (rounded up to a power of two). More stripes allow
+     * more threads to write at once.
+     *
+     * @throws IllegalArgumentException  if numStripes is not between 1 and 65536
+     */
+    public ConcurrentHashDictionary(int expectedSize, int numStripes) {
+        if (numStripes <= 0 || numStripes > (1 << 16)) {
+            throw new IllegalArgumentException("Number of stripes must be between 1 and 65536");
+        }
+        int stripes = numStripes == 1 ? 1 : Integer.highestOneBit(numStripes - 1) << 1;
+        int segmentCapacity = Math.max(DEFAULT_SEGMENT_CAP,
+                Hashing.tableSizeFor((expectedSize + stripes - 1) / stripes, LOAD_FACTOR));
+        this.segments = makeArrayOfSegments(stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.segments[i] = new Segment<>(segmentCapacity);
+        }
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Segment<K, V>[] makeArrayOfSegments(int arraySize) {
+        return (Segment<K, V>[]) new Segment[arraySize];
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            if (node == null) {
+                throw new NoSuchKeyException();
+            }
+            return node.value;
+        }
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            return node == null ? defaultValue : node.value;
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            if (node == null) {
+                segment.insert(key, hash, value);
+            } else {
+                node.value = value;
+            }
+        }
+    }
+
+    /**
+     * Associates the key with the given value only if the key is absent.
+     *
+     * Returns the value already associated with the key, or null if there was none (in which
+     * case the new value was stored). Since null values are allowed, callers that need to tell
+     * "absent" apart from "mapped to null" should not store nulls in this dictionary.
+     */
+    public V putIfAbsent(K key, V value) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            if (node != null) {
+                return node.value;
+            }
+            segment.insert(key, hash, value);
+            return null;
+        }
+    }
+
+    /**
+     * If the key is absent, computes its value with the given function and stores it.
+     * Returns the value now associated with the key.
+     *
+     * The function runs while the key's segment is locked, so it should be short and must
+     * not access this dictionary.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            if (node != null) {
+                return node.value;
+            }
+            V value = mappingFunction.apply(key);
+            segment.insert(key, hash, value);
+            return value;
+        }
+    }
+
+    /**
+     * Atomically replaces the key's value with remappingFunction(key, oldValue), where oldValue
+     * is null if the key is absent. Returns the new value.
+     *
+     * Unlike java.util.Map.compute, a null result is stored like any other value instead of
+     * removing the key, since this dictionary allows null values.
+     *
+     * The function runs while the key's segment is locked, so it should be short and must
+     * not access this dictionary.
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.find(key, hash);
+            V value = remappingFunction.apply(key, node == null ? null : node.value);
+            if (node == null) {
+                segment.insert(key, hash, value);
+            } else {
+                node.value = value;
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            Node<K, V> node = segment.delete(key, hash);
+            if (node == null) {
+                throw new NoSuchKeyException();
+            }
+            return node.value;
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = this.segmentFor(hash);
+        synchronized (segment) {
+            return segment.find(key, hash) != null;
+        }
+    }
+
+    @Override
+    public int size() {
+        long total = 0;
+        for (Segment<K, V> segment : this.segments) {
+            total += segment.count;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new SegmentIterator<>(this.segments);
+    }
+
+    /**
+     * Splits by segment range, and is weakly consistent in the same way as iteration.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new SegmentSpliterator<>(this.segments, 0, this.segments.length);
+    }
+
+    /**
+     * Like iteration, this is weakly consistent. Each segment's entries are copied out under
+     * its lock (into arrays rather than KVPairs), and the action then runs with no lock held,
+     * so it may safely access this dictionary.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Segment<K, V> segment : this.segments) {
+            Object[] keys;
+            Object[] values;
+            synchronized (segment) {
+                keys = new Object[segment.count];
+                values = new Object[segment.count];
+                segment.copyInto(keys, values);
+            }
+            for (int i = 0; i < keys.length; i++) {
+                @SuppressWarnings("unchecked")
+                K key = (K) keys[i];
+                @SuppressWarnings("unchecked")
+                V value = (V) values[i];
+                action.accept(key, value);
+            }
+        }
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // '>>> 32' is a no-op in Java, so a single segment needs special handling.
+        return this.segments.length == 1 ? this.segments[0] : this.segments[hash >>> this.segmentShift];
+    }
+
+    private static int hash(Object key) {
+        return Hashing.spread(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * One independently locked chained hash table. All fields are guarded by the segment's
+     * own monitor, except that 'count' is also read without the lock by size().
+     */
+    private static final class Segment<K, V> {
+        private Node<K, V>[] table;
+        private volatile int count;
+
+        Segment(int capacity) {
+            this.table = makeArrayOfNodes(capacity);
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> Node<K, V>[] makeArrayOfNodes(int arraySize) {
+            return (Node<K, V>[]) new Node[arraySize];
+        }
+
+        Node<K, V> find(K key, int hash) {
+            Node<K, V> node = this.table[hash & (this.table.length - 1)];
+            while (node != null) {
+                if (node.hash == hash && Objects.equals(node.key, key)) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        void insert(K key, int hash, V value) {
+            int index = hash & (this.table.length - 1);
+            this.table[index] = new Node<>(key, hash, value, this.table[index]);
+            this.count++;
+            if (this.count > this.table.length * LOAD_FACTOR) {
+                this.resize();
+            }
+        }
+
+        Node<K, V> delete(K key, int hash) {
+            int index = hash & (this.table.length - 1);
+            Node<K, V> prev = null;
+            Node<K, V> node = this.table[index];
+            while (node != null) {
+                if (node.hash == hash && Objects.equals(node.key, key)) {
+                    if (prev == null) {
+                        this.table[index] = node.next;
+                    } else {
+                        prev.next = node.next;
+                    }
+                    this.count--;
+                    return node;
+                }
+                prev = node;
+                node = node.next;
+            }
+            return null;
+        }
+
+        /**
+         * Copies out every entry in this segment. Called with the segment locked.
+         */
+        KVPair<K, V>[] snapshot() {
+            @SuppressWarnings("unchecked")
+            KVPair<K, V>[] pairs = (KVPair<K, V>[]) new KVPair[this.count];
+            int i = 0;
+            for (Node<K, V> head : this.table) {
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    pairs[i] = new KVPair<>(node.key, node.value);
+                    i++;
+                }
+            }
+            return pairs;
+        }
+
+        /**
+         * Copies every key and value in this segment into the given arrays, which must have
+         * room for 'count' entries. Called with the segment locked.
+         */
+        void copyInto(Object[] keys, Object[] values) {
+            int i = 0;
+            for (Node<K, V> head : this.table) {
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    keys[i] = node.key;
+                    values[i] = node.value;
+                    i++;
+                }
+            }
+        }
+
+        private void resize() {
+            Node<K, V>[] newTable = makeArrayOfNodes(this.table.length * 2);
+            int mask = newTable.length - 1;
+            for (Node<K, V> head : this.table) {
+                Node<K, V> node = head;
+                while (node != null) {
+                    Node<K, V> next = node.next;
+                    node.next = newTable[node.hash & mask];
+                    newTable[node.hash & mask] = node;
+                    node = next;
+                }
+            }
+            this.table = newTable;
+        }
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final int hash;
+        V value;
+        Node<K, V> next;
+
+        Node(K key, int hash, V value, Node<K, V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Walks the segments one at a time, copying out each segment's entries while holding
+     * its lock. Only one segment's worth of entries is buffered at a time.
+     */
+    private static class SegmentSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Segment<K, V>[] segments;
+        private int segmentIndex; // Next segment to snapshot.
+        private final int fence; // One past the last segment in range.
+        private KVPair<K, V>[] current; // Snapshot of the segment being walked.
+        private int pairIndex; // Next pair to hand out from 'current'.
+
+        public SegmentSpliterator(Segment<K, V>[] segments, int segmentIndex, int fence) {
+            this.segments = segments;
+            this.segmentIndex = segmentIndex;
+            this.fence = fence;
+            this.current = null;
+            this.pairIndex = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (this.current == null || this.pairIndex == this.current.length) {
+                if (this.segmentIndex == this.fence) {
+                    return false;
+                }
+                Segment<K, V> segment = this.segments[this.segmentIndex];
+                synchronized (segment) {
+                    this.current = segment.snapshot();
+                }
+                this.segmentIndex++;
+                this.pairIndex = 0;
+            }
+            action.accept(this.current[this.pairIndex]);
+            this.pairIndex++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            // The snapshot being walked, if any, stays with this half.
+            int mid = (this.segmentIndex + this.fence) >>> 1;
+            if (mid <= this.segmentIndex) {
+                return null;
+            }
+            Spliterator<KVPair<K, V>> prefix = new SegmentSpliterator<>(this.segments, this.segmentIndex, mid);
+            this.segmentIndex = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long total = this.current == null ? 0 : this.current.length - this.pairIndex;
+            for (int i = this.segmentIndex; i < this.fence; i++) {
+                total += this.segments[i].count;
+            }
+            return total;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.CONCURRENT | Spliterator.DISTINCT;
+        }
+    }
+
+    private static class SegmentIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final Segment<K, V>[] segments;
+        private int segmentIndex; // Next segment to snapshot.
+        private KVPair<K, V>[] current; // Snapshot of the segment being walked.
+        private int pairIndex; // Next pair to return from 'current'.
+
+        public SegmentIterator(Segment<K, V>[] segments) {
+            this.segments = segments;
+            this.segmentIndex = 0;
+            this.current = null;
+            this.pairIndex = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.current == null || this.pairIndex == this.current.length) {
+                if (this.segmentIndex == this.segments.length) {
+                    return false;
+                }
+                Segment<K, V> segment = this.segments[this.segmentIndex];
+                synchronized (segment) {
+                    this.current = segment.snapshot();
+                }
+                this.segmentIndex++;
+                this.pairIndex = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = this.current[this.pairIndex];
+            this.pairIndex++;
+            return pair;
+        }
+    }
+}
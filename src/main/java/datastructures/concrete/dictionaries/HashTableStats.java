@@ -0,0 +1,143 @@
+package datastructures.concrete.dictionaries;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Statistics about one hash dictionary: its load, how often and for how long it has resized,
+ * and how long its chains (or probe sequences) are.
+ *
+ * A dictionary only keeps these once its enableStats() method has been called; until then its
+ * only overhead is a null check per resize. Resize counts and times are updated as they happen,
+ * while the size, capacity and length histogram are computed from the table each time they're
+ * read. If the dictionary is being modified while they are read (say, from a JMX client), the
+ * results are approximate.
+ */
+public class HashTableStats implements HashTableStatsMXBean {
+    /**
+     * The histogram's last entry counts this length and everything longer.
+     */
+    public static final int HISTOGRAM_LENGTH = 17;
+
+    private final Table table;
+    private volatile long resizeCount;
+    private volatile long resizeNanos;
+    private ObjectName registeredName;
+
+    /**
+     * The view of a dictionary's table that HashTableStats needs.
+     */
+    interface Table {
+        int size();
+
+        int capacity();
+
+        /**
+         * Adds the length of every chain (or probe sequence) to the given histogram, clamping
+         * lengths to its last entry, and returns the longest length seen.
+         */
+        int fillHistogram(long[] histogram);
+    }
+
+    HashTableStats(Table table) {
+        this.table = table;
+        this.resizeCount = 0;
+        this.resizeNanos = 0;
+    }
+
+    /**
+     * Records a resize (or part of an incremental one) that took the given time. Only the
+     * dictionary's own thread calls this, so the unsynchronized increments are safe.
+     */
+    void recordResize(long nanos, boolean started) {
+        if (started) {
+            this.resizeCount++;
+        }
+        this.resizeNanos += nanos;
+    }
+
+    @Override
+    public int getSize() {
+        return this.table.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return this.table.capacity();
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return 1.0 * this.table.size() / this.table.capacity();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return this.resizeCount;
+    }
+
+    @Override
+    public long getResizeNanos() {
+        return this.resizeNanos;
+    }
+
+    @Override
+    public long[] getLengthHistogram() {
+        long[] histogram = new long[HISTOGRAM_LENGTH];
+        this.table.fillHistogram(histogram);
+        return histogram;
+    }
+
+    @Override
+    public int getMaxLength() {
+        return this.table.fillHistogram(new long[HISTOGRAM_LENGTH]);
+    }
+
+    /**
+     * Registers these statistics with the platform MBean server under
+     * "datastructures:type=HashTableStats,name=<name>".
+     *
+     * @throws JMException  if the name is invalid or already taken
+     */
+    public synchronized void register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("datastructures:type=HashTableStats,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        this.registeredName = objectName;
+    }
+
+    /**
+     * Removes the registration made by register(...), if any.
+     *
+     * @throws JMException  if the MBean server fails to unregister it
+     */
+    public synchronized void unregister() throws JMException {
+        if (this.registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.registeredName);
+            this.registeredName = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        long[] histogram = new long[HISTOGRAM_LENGTH];
+        int maxLength = this.table.fillHistogram(histogram);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("size=%d capacity=%d load=%.2f resizes=%d resizeTime=%.2fms maxLength=%d",
+                this.table.size(), this.table.capacity(), this.getLoadFactor(),
+                this.resizeCount, this.resizeNanos / 1e6, maxLength));
+        builder.append(" lengths=[");
+        int last = histogram.length - 1;
+        while (last > 0 && histogram[last] == 0) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            builder.append(i > 0 ? " " : "").append(histogram[i]);
+        }
+        if (last == histogram.length - 1) {
+            builder.append("+");
+        }
+        return builder.append("]").toString();
+    }
+}
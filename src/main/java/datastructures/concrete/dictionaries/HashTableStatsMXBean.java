@@ -0,0 +1,45 @@
+package datastructures.concrete.dictionaries;
+
+/**
+ * The management interface of HashTableStats, so that a dictionary's statistics can be
+ * read through JMX (for example, from jconsole) once HashTableStats.register(...) is called.
+ */
+public interface HashTableStatsMXBean {
+    /**
+     * Returns the number of entries in the table.
+     */
+    public int getSize();
+
+    /**
+     * Returns the number of buckets (or slots) in the table.
+     */
+    public int getCapacity();
+
+    /**
+     * Returns size / capacity.
+     */
+    public double getLoadFactor();
+
+    /**
+     * Returns the number of times the table has grown since statistics were enabled.
+     */
+    public long getResizeCount();
+
+    /**
+     * Returns the total time, in nanoseconds, spent growing the table since statistics
+     * were enabled.
+     */
+    public long getResizeNanos();
+
+    /**
+     * Returns a histogram where entry i counts the buckets holding i entries (for chained
+     * tables) or the entries sitting i slots past their home slot (for open addressing).
+     * The last entry also counts everything longer.
+     */
+    public long[] getLengthHistogram();
+
+    /**
+     * Returns the length of the longest chain or probe sequence.
+     */
+    public int getMaxLength();
+}
@@ -0,0 +1,54 @@
+package datastructures.concrete.dictionaries;
+
+/**
+ * Hash helpers shared by the open-addressing dictionaries in this package.
+ */
+final class Hashing {
+    /**
+     * The largest power-of-two table length we'll ever allocate.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {
+        // Static helpers only.
+    }
+
+    /**
+     * Scrambles the bits of the given hash code.
+     *
+     * Open-addressing tables index with 'hash & mask', so only the low bits are looked at.
+     * Keys like java.awt.Point have hash codes that differ mostly in their high bits, so
+     * we multiply by a large odd constant and then fold the high half back down.
+     */
+    static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the spread hash code of the given key, treating null as having hash code 0.
+     */
+    static int hash(Object key) {
+        return spread(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * Same as spread(int), but for primitive long keys.
+     */
+    static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Returns the smallest power-of-two table length that can hold 'expectedSize'
+     * entries without exceeding the given load factor.
+     */
+    static int tableSizeFor(int expectedSize, double loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / loadFactor) + 1;
+        if (needed >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+}
@@ -0,0 +1,24 @@
+package datastructures.concrete.dictionaries;
+
+/**
+ * A dictionary whose entries can be read by position, 0 through size() - 1.
+ *
+ * ChainedHashDictionary's buckets implement this so that its cursor can walk them
+ * without creating an iterator (or a KVPair) along the way.
+ */
+interface IndexedEntries<K, V> {
+    /**
+     * Returns the number of entries.
+     */
+    int size();
+
+    /**
+     * Returns the key of the entry at the given position.
+     */
+    K keyAt(int index);
+
+    /**
+     * Returns the value of the entry at the given position.
+     */
+    V valueAt(int index);
+}
@@ -0,0 +1,58 @@
+package datastructures.concrete.dictionaries;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits the positions [index, fence) of an IndexedEntries in half, and hands out each entry
+ * in its range as a KVPair.
+ */
+class IndexedEntriesSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+    private final IndexedEntries<K, V> entries;
+    private int index; // Next position to hand out.
+    private final int fence; // One past the last position in range.
+
+    IndexedEntriesSpliterator(IndexedEntries<K, V> entries, int index, int fence) {
+        this.entries = entries;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+        if (this.index >= this.fence) {
+            return false;
+        }
+        action.accept(new KVPair<>(this.entries.keyAt(this.index), this.entries.valueAt(this.index)));
+        this.index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super KVPair<K, V>> action) {
+        for (; this.index < this.fence; this.index++) {
+            action.accept(new KVPair<>(this.entries.keyAt(this.index), this.entries.valueAt(this.index)));
+        }
+    }
+
+    @Override
+    public Spliterator<KVPair<K, V>> trySplit() {
+        int mid = (this.index + this.fence) >>> 1;
+        if (mid <= this.index) {
+            return null;
+        }
+        Spliterator<KVPair<K, V>> prefix = new IndexedEntriesSpliterator<>(this.entries, this.index, mid);
+        this.index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+}
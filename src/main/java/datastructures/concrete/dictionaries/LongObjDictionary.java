@@ -0,0 +1,222 @@
+package datastructures.concrete.dictionaries;
+
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A dictionary from primitive longs to objects.
+ *
+ * Uses linear probing over a long[] of keys and a parallel array of values, so lookups
+ * never box the key. Two ints (say, the x and y of a java.awt.Point) can be packed into
+ * a single key with packInts(...). Slots holding FREE_KEY are empty; since 0 is a
+ * perfectly good key, the entry for key 0 is kept in a pair of separate fields.
+ */
+public class LongObjDictionary<V> {
+    private static final long FREE_KEY = 0L;
+
+    public static final int DEFAULT_CAP = 16;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private V[] values;
+    private int mask;
+    private int size; // Includes the zero key, if present.
+    private int resizeThreshold;
+
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    public LongObjDictionary() {
+        this(0);
+    }
+
+    /**
+     * Creates a dictionary with room for 'expectedSize' entries before it needs to grow.
+     */
+    public LongObjDictionary(int expectedSize) {
+        this.size = 0;
+        this.hasZeroKey = false;
+        this.allocate(Math.max(DEFAULT_CAP, Hashing.tableSizeFor(expectedSize, LOAD_FACTOR)));
+    }
+
+    /**
+     * Packs two ints into a single long key, with 'high' in the upper 32 bits.
+     */
+    public static long packInts(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfValues(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = makeArrayOfValues(capacity);
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public V get(long key) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.zeroValue;
+        }
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the key
+     * is absent.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == FREE_KEY) {
+            return this.hasZeroKey ? this.zeroValue : defaultValue;
+        }
+        int index = this.findIndex(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key is
+     * already present.
+     */
+    public void put(long key, V value) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                this.hasZeroKey = true;
+                this.size++;
+            }
+            this.zeroValue = value;
+            return;
+        }
+
+        int index = Hashing.spread(key) & this.mask;
+        while (this.keys[index] != FREE_KEY) {
+            if (this.keys[index] == key) {
+                this.values[index] = value;
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+        if (this.size > this.resizeThreshold) {
+            this.doResize();
+        }
+    }
+
+    /**
+     * Removes the given key and returns its value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public V remove(long key) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            V value = this.zeroValue;
+            this.hasZeroKey = false;
+            this.zeroValue = null;
+            this.size--;
+            return value;
+        }
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        V value = this.values[index];
+        this.deleteAt(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return this.hasZeroKey;
+        }
+        return this.findIndex(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns 'true' if this dictionary is empty and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private int findIndex(long key) {
+        int index = Hashing.spread(key) & this.mask;
+        while (this.keys[index] != FREE_KEY) {
+            if (this.keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    // See OpenAddressingDictionary.deleteAt(...).
+    private void deleteAt(int index) {
+        int hole = index;
+        int curr = (index + 1) & this.mask;
+        while (this.keys[curr] != FREE_KEY) {
+            int home = Hashing.spread(this.keys[curr]) & this.mask;
+            if (((curr - home) & this.mask) >= ((curr - hole) & this.mask)) {
+                this.keys[hole] = this.keys[curr];
+                this.values[hole] = this.values[curr];
+                hole = curr;
+            }
+            curr = (curr + 1) & this.mask;
+        }
+        this.keys[hole] = FREE_KEY;
+        this.values[hole] = null;
+    }
+
+    private void doResize() {
+        if (this.keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Dictionary is too large to grow any further");
+        }
+        long[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+
+        this.allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int index = Hashing.spread(oldKeys[i]) & this.mask;
+                while (this.keys[index] != FREE_KEY) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package datastructures.concrete.dictionaries;
+
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A dictionary from objects to primitive ints.
+ *
+ * This is the same linear-probing table as OpenAddressingDictionary, except that the
+ * values live in an int[] so that reading or updating a value never boxes an Integer.
+ * It is meant for index maps such as the element-to-slot map inside ArrayHeap.
+ *
+ * The key may be null.
+ */
+public class ObjIntDictionary<K> {
+    private static final Object NULL_KEY = new Object();
+
+    public static final int DEFAULT_CAP = 16;
+    private static final double LOAD_FACTOR = 0.5;
+
+    // Same invariants as OpenAddressingDictionary.
+    private Object[] keys;
+    private int[] values;
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public ObjIntDictionary() {
+        this(0);
+    }
+
+    /**
+     * Creates a dictionary with room for 'expectedSize' entries before it needs to grow.
+     */
+    public ObjIntDictionary(int expectedSize) {
+        this.size = 0;
+        this.allocate(Math.max(DEFAULT_CAP, Hashing.tableSizeFor(expectedSize, LOAD_FACTOR)));
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int get(K key) {
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the key
+     * is absent.
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int index = this.findIndex(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key is
+     * already present.
+     */
+    public void put(K key, int value) {
+        Object masked = mask(key);
+        int hash = Hashing.spread(masked.hashCode());
+        int index = hash & this.mask;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash && this.keys[index].equals(masked)) {
+                this.values[index] = value;
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = masked;
+        this.values[index] = value;
+        this.hashes[index] = hash;
+        this.size++;
+        if (this.size > this.resizeThreshold) {
+            this.doResize();
+        }
+    }
+
+    /**
+     * Removes the given key and returns its value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int remove(K key) {
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        int value = this.values[index];
+        this.deleteAt(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(K key) {
+        return this.findIndex(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns 'true' if this dictionary is empty and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private int findIndex(K key) {
+        Object masked = mask(key);
+        int hash = Hashing.spread(masked.hashCode());
+        int index = hash & this.mask;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash && this.keys[index].equals(masked)) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    // See OpenAddressingDictionary.deleteAt(...).
+    private void deleteAt(int index) {
+        int hole = index;
+        int curr = (index + 1) & this.mask;
+        while (this.keys[curr] != null) {
+            int home = this.hashes[curr] & this.mask;
+            if (((curr - home) & this.mask) >= ((curr - hole) & this.mask)) {
+                this.keys[hole] = this.keys[curr];
+                this.values[hole] = this.values[curr];
+                this.hashes[hole] = this.hashes[curr];
+                hole = curr;
+            }
+            curr = (curr + 1) & this.mask;
+        }
+        this.keys[hole] = null;
+        this.hashes[hole] = 0;
+    }
+
+    private void doResize() {
+        if (this.keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Dictionary is too large to grow any further");
+        }
+        Object[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+
+        this.allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] & this.mask;
+                while (this.keys[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+                this.hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+}
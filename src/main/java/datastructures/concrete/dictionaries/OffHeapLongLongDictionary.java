@@ -0,0 +1,527 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A dictionary from primitive longs to primitive longs whose table lives outside the Java heap.
+ *
+ * This is the same linear-probing layout as IntIntDictionary, except that each slot is a
+ * 16-byte (key, value) record in a direct or memory-mapped ByteBuffer instead of a pair of
+ * Java arrays. The table is split into pages of at most PAGE_BYTES each, since a single
+ * ByteBuffer can't be larger than 2 GB.
+ *
+ * By default the pages are direct buffers, which count against -XX:MaxDirectMemorySize rather
+ * than -Xmx. Dictionaries made with create(...) are instead mapped from a file, so the OS can
+ * page the table in and out and it may grow larger than physical memory. Call flush() or
+ * close() to write everything out; open(...) then reloads the same file without rebuilding it.
+ *
+ * The IDictionary methods work on boxed Longs and don't accept null keys or values; the
+ * primitive overloads (get(long), put(long, long), ...) never box.
+ */
+public class OffHeapLongLongDictionary implements IDictionary<Long, Long>, Closeable {
+    private static final long FREE_KEY = 0L;
+
+    public static final int DEFAULT_CAP = 16;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private static final int SLOT_BYTES = 16;
+    public static final int PAGE_BYTES = 1 << 27;
+    private static final int SLOTS_PER_PAGE = PAGE_BYTES / SLOT_BYTES;
+    private static final int PAGE_SHIFT = Integer.numberOfTrailingZeros(SLOTS_PER_PAGE);
+
+    // File header: magic, version, capacity, size, hasZeroKey, zeroValue. Slots start after it.
+    private static final long MAGIC = 0x4C4C44494354L; // "LLDICT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final Path file; // Null for a dictionary that isn't backed by a file.
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private ByteBuffer[] pages;
+    private int capacity;
+    private int mask;
+    private int size; // Includes the zero key, if present.
+    private int resizeThreshold;
+
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public OffHeapLongLongDictionary() {
+        this(0);
+    }
+
+    /**
+     * Creates a dictionary in direct memory with room for 'expectedSize' entries before
+     * it needs to grow.
+     */
+    public OffHeapLongLongDictionary(int expectedSize) {
+        this.file = null;
+        this.size = 0;
+        this.hasZeroKey = false;
+        this.allocate(Math.max(DEFAULT_CAP, Hashing.tableSizeFor(expectedSize, LOAD_FACTOR)));
+    }
+
+    private OffHeapLongLongDictionary(Path file, FileChannel channel, int capacity) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        this.header.order(ORDER);
+        this.setCapacity(capacity);
+        this.pages = mapPages(channel, capacity);
+    }
+
+    /**
+     * Creates a new dictionary backed by the given file, replacing the file if it exists.
+     */
+    public static OffHeapLongLongDictionary create(Path file, int expectedSize) throws IOException {
+        int capacity = Math.max(DEFAULT_CAP, Hashing.tableSizeFor(expectedSize, LOAD_FACTOR));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        OffHeapLongLongDictionary dict = new OffHeapLongLongDictionary(file, channel, capacity);
+        dict.size = 0;
+        dict.hasZeroKey = false;
+        dict.writeHeader();
+        return dict;
+    }
+
+    /**
+     * Reopens a dictionary previously written by flush() or close().
+     *
+     * @throws IOException  if the file can't be read or wasn't written by this class
+     */
+    public static OffHeapLongLongDictionary open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the header is full or the file ends.
+            }
+            buffer.flip();
+            if (buffer.remaining() < HEADER_BYTES || buffer.getLong(0) != MAGIC || buffer.getInt(8) != VERSION) {
+                throw new IOException("Not an OffHeapLongLongDictionary file: " + file);
+            }
+            int capacity = buffer.getInt(12);
+            if (Integer.bitCount(capacity) != 1 || channel.size() < HEADER_BYTES + (long) capacity * SLOT_BYTES) {
+                throw new IOException("Corrupt OffHeapLongLongDictionary file: " + file);
+            }
+            OffHeapLongLongDictionary dict = new OffHeapLongLongDictionary(file, channel, capacity);
+            dict.size = buffer.getInt(16);
+            dict.hasZeroKey = buffer.getInt(20) != 0;
+            dict.zeroValue = buffer.getLong(24);
+            return dict;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private void setCapacity(int capacity) {
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocate(int newCapacity) {
+        this.setCapacity(newCapacity);
+        int numPages = (int) Math.max(1, ((long) newCapacity + SLOTS_PER_PAGE - 1) / SLOTS_PER_PAGE);
+        this.pages = new ByteBuffer[numPages];
+        for (int i = 0; i < numPages; i++) {
+            int slots = Math.min(SLOTS_PER_PAGE, newCapacity - i * SLOTS_PER_PAGE);
+            this.pages[i] = ByteBuffer.allocateDirect(slots * SLOT_BYTES).order(ORDER);
+        }
+    }
+
+    private static ByteBuffer[] mapPages(FileChannel channel, int capacity) throws IOException {
+        int numPages = (int) Math.max(1, ((long) capacity + SLOTS_PER_PAGE - 1) / SLOTS_PER_PAGE);
+        ByteBuffer[] pages = new ByteBuffer[numPages];
+        for (int i = 0; i < numPages; i++) {
+            int slots = Math.min(SLOTS_PER_PAGE, capacity - i * SLOTS_PER_PAGE);
+            long offset = HEADER_BYTES + (long) i * PAGE_BYTES;
+            pages[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, (long) slots * SLOT_BYTES)
+                    .order(ORDER);
+        }
+        return pages;
+    }
+
+    private long keyAt(int slot) {
+        return this.pages[slot >>> PAGE_SHIFT].getLong((slot & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES);
+    }
+
+    private long valueAt(int slot) {
+        return this.pages[slot >>> PAGE_SHIFT].getLong((slot & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES + 8);
+    }
+
+    private void setSlot(int slot, long key, long value) {
+        ByteBuffer page = this.pages[slot >>> PAGE_SHIFT];
+        int offset = (slot & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES;
+        page.putLong(offset, key);
+        page.putLong(offset + 8, value);
+    }
+
+    private void setValue(int slot, long value) {
+        this.pages[slot >>> PAGE_SHIFT].putLong((slot & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES + 8, value);
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long get(long key) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.zeroValue;
+        }
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.valueAt(index);
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the key
+     * is absent.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == FREE_KEY) {
+            return this.hasZeroKey ? this.zeroValue : defaultValue;
+        }
+        int index = this.findIndex(key);
+        return index < 0 ? defaultValue : this.valueAt(index);
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key is
+     * already present.
+     *
+     * @throws UncheckedIOException  if a file-backed dictionary fails to grow its file
+     */
+    public void put(long key, long value) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                this.hasZeroKey = true;
+                this.size++;
+            }
+            this.zeroValue = value;
+            return;
+        }
+
+        int index = Hashing.spread(key) & this.mask;
+        long curr;
+        while ((curr = this.keyAt(index)) != FREE_KEY) {
+            if (curr == key) {
+                this.setValue(index, value);
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.setSlot(index, key, value);
+        this.size++;
+        if (this.size > this.resizeThreshold) {
+            this.doResize();
+        }
+    }
+
+    /**
+     * Removes the given key and returns its value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long remove(long key) {
+        if (key == FREE_KEY) {
+            if (!this.hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            this.hasZeroKey = false;
+            this.size--;
+            return this.zeroValue;
+        }
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        long value = this.valueAt(index);
+        this.deleteAt(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return this.hasZeroKey;
+        }
+        return this.findIndex(key) >= 0;
+    }
+
+    @Override
+    public Long get(Long key) {
+        return this.get(unbox(key));
+    }
+
+    @Override
+    public Long getOrDefault(Long key, Long defaultValue) {
+        long unboxed = unbox(key);
+        if (unboxed == FREE_KEY) {
+            return this.hasZeroKey ? this.zeroValue : defaultValue;
+        }
+        int index = this.findIndex(unboxed);
+        return index < 0 ? defaultValue : this.valueAt(index);
+    }
+
+    @Override
+    public void put(Long key, Long value) {
+        this.put(unbox(key), unbox(value));
+    }
+
+    @Override
+    public Long remove(Long key) {
+        return this.remove(unbox(key));
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        return this.containsKey(unbox(key));
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<Long, Long>> iterator() {
+        return new OffHeapIterator(this);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Long, ? super Long> action) {
+        if (this.hasZeroKey) {
+            action.accept(FREE_KEY, this.zeroValue);
+        }
+        for (int i = 0; i < this.capacity; i++) {
+            long key = this.keyAt(i);
+            if (key != FREE_KEY) {
+                action.accept(key, this.valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * Writes every change made so far out to the backing file. Does nothing if this
+     * dictionary isn't backed by a file.
+     */
+    public void flush() {
+        if (this.file == null) {
+            return;
+        }
+        this.writeHeader();
+        for (ByteBuffer page : this.pages) {
+            ((MappedByteBuffer) page).force();
+        }
+        this.header.force();
+    }
+
+    /**
+     * Flushes and closes the backing file, if any. The dictionary must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            this.flush();
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    private static long unbox(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("OffHeapLongLongDictionary does not support nulls");
+        }
+        return value;
+    }
+
+    private void writeHeader() {
+        this.writeHeader(this.header, this.capacity);
+    }
+
+    private void writeHeader(MappedByteBuffer target, int tableCapacity) {
+        target.putLong(0, MAGIC);
+        target.putInt(8, VERSION);
+        target.putInt(12, tableCapacity);
+        target.putInt(16, this.size);
+        target.putInt(20, this.hasZeroKey ? 1 : 0);
+        target.putLong(24, this.zeroValue);
+    }
+
+    private int findIndex(long key) {
+        int index = Hashing.spread(key) & this.mask;
+        long curr;
+        while ((curr = this.keyAt(index)) != FREE_KEY) {
+            if (curr == key) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    // See OpenAddressingDictionary.deleteAt(...).
+    private void deleteAt(int index) {
+        int hole = index;
+        int curr = (index + 1) & this.mask;
+        long key;
+        while ((key = this.keyAt(curr)) != FREE_KEY) {
+            int home = Hashing.spread(key) & this.mask;
+            if (((curr - home) & this.mask) >= ((curr - hole) & this.mask)) {
+                this.setSlot(hole, key, this.valueAt(curr));
+                hole = curr;
+            }
+            curr = (curr + 1) & this.mask;
+        }
+        this.setSlot(hole, FREE_KEY, 0L);
+    }
+
+    /**
+     * Doubles the table. A file-backed table is rebuilt in a temporary file next to the
+     * original, which then replaces it. (This relies on the OS letting us replace a file
+     * that is still mapped, which POSIX systems do and Windows does not.)
+     */
+    private void doResize() {
+        if (this.capacity == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Dictionary is too large to grow any further");
+        }
+        int newCapacity = this.capacity * 2;
+        if (this.file == null) {
+            ByteBuffer[] oldPages = this.pages;
+            this.allocate(newCapacity);
+            rehash(oldPages, this.pages, this.mask);
+        } else {
+            try {
+                this.remapInto(newCapacity);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Builds the grown table in full in the temporary file, forces it to disk, and only then
+     * moves it over the original. If anything fails before the move, the temporary file is
+     * deleted and this dictionary keeps using the old file, which is left as it was.
+     */
+    private void remapInto(int newCapacity) throws IOException {
+        Path temp = this.file.resolveSibling(this.file.getFileName() + ".resize");
+        FileChannel newChannel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedByteBuffer newHeader;
+        ByteBuffer[] newPages;
+        try {
+            newHeader = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            newHeader.order(ORDER);
+            newPages = mapPages(newChannel, newCapacity);
+            rehash(this.pages, newPages, newCapacity - 1);
+            this.writeHeader(newHeader, newCapacity);
+            for (ByteBuffer page : newPages) {
+                ((MappedByteBuffer) page).force();
+            }
+            newHeader.force();
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Throwable ex) {
+            try {
+                newChannel.close();
+                Files.deleteIfExists(temp);
+            } catch (IOException cleanupEx) {
+                ex.addSuppressed(cleanupEx);
+            }
+            throw ex;
+        }
+
+        FileChannel oldChannel = this.channel;
+        this.channel = newChannel;
+        this.header = newHeader;
+        this.setCapacity(newCapacity);
+        this.pages = newPages;
+        oldChannel.close();
+    }
+
+    /**
+     * Copies every entry in 'from' into the empty table 'to', whose mask is 'newMask'.
+     */
+    private static void rehash(ByteBuffer[] from, ByteBuffer[] to, int newMask) {
+        for (ByteBuffer buffer : from) {
+            for (int offset = 0; offset < buffer.capacity(); offset += SLOT_BYTES) {
+                long key = buffer.getLong(offset);
+                if (key != FREE_KEY) {
+                    int index = Hashing.spread(key) & newMask;
+                    while (to[index >>> PAGE_SHIFT].getLong((index & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES) != FREE_KEY) {
+                        index = (index + 1) & newMask;
+                    }
+                    ByteBuffer page = to[index >>> PAGE_SHIFT];
+                    int slotOffset = (index & (SLOTS_PER_PAGE - 1)) * SLOT_BYTES;
+                    page.putLong(slotOffset, key);
+                    page.putLong(slotOffset + 8, buffer.getLong(offset + 8));
+                }
+            }
+        }
+    }
+
+    private static class OffHeapIterator implements Iterator<KVPair<Long, Long>> {
+        private final OffHeapLongLongDictionary dict;
+        private int remaining; // Number of entries we have yet to return.
+        private int index; // Next slot to examine; -1 means the zero key is next.
+
+        // Like OpenAddressingIterator, assumes the dictionary isn't modified mid-iteration.
+        public OffHeapIterator(OffHeapLongLongDictionary dict) {
+            this.dict = dict;
+            this.remaining = dict.size;
+            this.index = dict.hasZeroKey ? -1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public KVPair<Long, Long> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            if (this.index == -1) {
+                this.index = 0;
+                return new KVPair<>(FREE_KEY, this.dict.zeroValue);
+            }
+            while (this.dict.keyAt(this.index) == FREE_KEY) {
+                this.index++;
+            }
+            KVPair<Long, Long> pair = new KVPair<>(this.dict.keyAt(this.index), this.dict.valueAt(this.index));
+            this.index++;
+            return pair;
+        }
+    }
+}
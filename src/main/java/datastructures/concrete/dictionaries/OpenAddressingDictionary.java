@@ -0,0 +1,457 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A hash dictionary that uses open addressing with linear probing.
+ *
+ * Unlike ChainedHashDictionary, there are no per-bucket objects: the keys, values and cached
+ * hash codes live in three parallel arrays, and a lookup walks forward from the key's home slot
+ * until it finds the key or an empty slot. Removal uses backward-shift deletion, so the table
+ * never accumulates tombstones.
+ *
+ * @see IDictionary
+ */
+public class OpenAddressingDictionary<K, V> implements IDictionary<K, V> {
+    // Stands in for the null key, so that a null entry in 'keys' always means "empty slot".
+    private static final Object NULL_KEY = new Object();
+
+    public static final int DEFAULT_CAP = 16;
+    public static final double DEFAULT_LOAD_FACTOR = 0.5;
+
+    private final double loadFactor;
+
+    // Invariants:
+    // - keys.length == values.length == hashes.length, and is a power of two.
+    // - keys[i] == null iff slot i is empty; hashes[i] caches spread(keys[i].hashCode()).
+    // - Every key sits somewhere in the unbroken run of occupied slots starting at its home slot.
+    private Object[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    // Null unless enableStats() has been called.
+    private HashTableStats stats;
+
+    public OpenAddressingDictionary() {
+        this(0, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the load factor is not strictly between 0 and 1
+     */
+    public OpenAddressingDictionary(double loadFactor) {
+        this(0, loadFactor);
+    }
+
+    /**
+     * Returns a dictionary with room for 'expectedSize' entries before it needs to grow.
+     *
+     * (This is a factory rather than a constructor so that an int argument can't be mistaken
+     * for the load factor taken by OpenAddressingDictionary(double).)
+     */
+    public static <K, V> OpenAddressingDictionary<K, V> withExpectedSize(int expectedSize) {
+        return new OpenAddressingDictionary<>(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the load factor is not strictly between 0 and 1
+     */
+    public OpenAddressingDictionary(int expectedSize, double loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1");
+        }
+        this.loadFactor = loadFactor;
+        this.size = 0;
+        this.allocate(Math.max(DEFAULT_CAP, Hashing.tableSizeFor(expectedSize, loadFactor)));
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfValues(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.values = makeArrayOfValues(capacity);
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) Math.min(capacity * loadFactor, capacity - 1);
+    }
+
+    @Override
+    public V get(K key) {
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.findIndex(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Object masked = mask(key);
+        int hash = Hashing.spread(masked.hashCode());
+        int index = hash & this.mask;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash && this.keys[index].equals(masked)) {
+                this.values[index] = value;
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = masked;
+        this.values[index] = value;
+        this.hashes[index] = hash;
+        this.size++;
+
+        if (this.size > this.resizeThreshold) {
+            this.doResize();
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = this.findIndex(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        V value = this.values[index];
+        this.deleteAt(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Grows the table at most once, up front, to fit every entry in 'other'.
+     */
+    @Override
+    public void putAll(IDictionary<? extends K, ? extends V> other) {
+        int capacity = Hashing.tableSizeFor(this.size + other.size(), this.loadFactor);
+        if (capacity > this.keys.length) {
+            long start = this.stats != null ? System.nanoTime() : 0;
+            this.rehash(capacity);
+            if (this.stats != null) {
+                this.stats.recordResize(System.nanoTime() - start, true);
+            }
+        }
+        other.forEach(this::put);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findIndex(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new OpenAddressingIterator<>(this.keys, this.values, this.size);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Object[] currKeys = this.keys;
+        V[] currValues = this.values;
+        for (int i = 0; i < currKeys.length; i++) {
+            if (currKeys[i] != null) {
+                action.accept(unmask(currKeys[i]), currValues[i]);
+            }
+        }
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new OpenAddressingCursor<>(this);
+    }
+
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new OpenAddressingSpliterator<>(this.keys, this.values, 0, this.keys.length, this.size);
+    }
+
+    /**
+     * Starts collecting statistics about this dictionary, if it isn't already, and returns them.
+     * The histogram counts entries by how many slots past their home slot they sit.
+     */
+    public HashTableStats enableStats() {
+        if (this.stats == null) {
+            this.stats = new HashTableStats(new HashTableStats.Table() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public int capacity() {
+                    return keys.length;
+                }
+
+                @Override
+                public int fillHistogram(long[] histogram) {
+                    Object[] currKeys = keys;
+                    int[] currHashes = hashes;
+                    int currMask = currKeys.length - 1;
+                    int max = 0;
+                    for (int i = 0; i < currKeys.length && i < currHashes.length; i++) {
+                        if (currKeys[i] != null) {
+                            int distance = (i - currHashes[i]) & currMask;
+                            histogram[Math.min(distance, histogram.length - 1)]++;
+                            max = Math.max(max, distance);
+                        }
+                    }
+                    return max;
+                }
+            });
+        }
+        return this.stats;
+    }
+
+    /**
+     * Returns the slot holding the given key, or -1 if the key is absent.
+     */
+    private int findIndex(K key) {
+        Object masked = mask(key);
+        int hash = Hashing.spread(masked.hashCode());
+        int index = hash & this.mask;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash && this.keys[index].equals(masked)) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties the given slot, then walks the rest of its run and shifts back any entry
+     * whose home slot is at or before the hole. This keeps every key reachable from its
+     * home slot without leaving tombstones behind.
+     */
+    private void deleteAt(int index) {
+        int hole = index;
+        int curr = (index + 1) & this.mask;
+        while (this.keys[curr] != null) {
+            int home = this.hashes[curr] & this.mask;
+            if (((curr - home) & this.mask) >= ((curr - hole) & this.mask)) {
+                this.keys[hole] = this.keys[curr];
+                this.values[hole] = this.values[curr];
+                this.hashes[hole] = this.hashes[curr];
+                hole = curr;
+            }
+            curr = (curr + 1) & this.mask;
+        }
+        this.keys[hole] = null;
+        this.values[hole] = null;
+        this.hashes[hole] = 0;
+    }
+
+    private void doResize() {
+        if (this.keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Dictionary is too large to grow any further");
+        }
+        long start = this.stats != null ? System.nanoTime() : 0;
+        this.rehash(this.keys.length * 2);
+        if (this.stats != null) {
+            this.stats.recordResize(System.nanoTime() - start, true);
+        }
+    }
+
+    private void rehash(int capacity) {
+        Object[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+
+        this.allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] & this.mask;
+                while (this.keys[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+                this.hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmask(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    /**
+     * Walks the slots in place, so stepping through the table allocates nothing.
+     */
+    private static class OpenAddressingCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final OpenAddressingDictionary<K, V> dict;
+        private int index; // Slot of the current entry; -1 before the first.
+
+        public OpenAddressingCursor(OpenAddressingDictionary<K, V> dict) {
+            this.dict = dict;
+            this.index = -1;
+        }
+
+        @Override
+        public boolean advance() {
+            Object[] keys = this.dict.keys;
+            while (this.index < keys.length) {
+                this.index++;
+                if (this.index < keys.length && keys[this.index] != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public K getKey() {
+            this.checkPositioned();
+            return unmask(this.dict.keys[this.index]);
+        }
+
+        @Override
+        public V getValue() {
+            this.checkPositioned();
+            return this.dict.values[this.index];
+        }
+
+        @Override
+        public void reset() {
+            this.index = -1;
+        }
+
+        private void checkPositioned() {
+            if (this.index < 0 || this.index >= this.dict.keys.length) {
+                throw new IllegalStateException("Cursor is not positioned on an entry");
+            }
+        }
+    }
+
+    /**
+     * Splits the slot range in half; the estimated size is split along with it.
+     */
+    private static class OpenAddressingSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Object[] keys;
+        private final V[] values;
+        private int index; // Next slot to examine.
+        private final int fence; // One past the last slot in range.
+        private long estimate;
+
+        // Like OpenAddressingIterator, assumes the dictionary isn't modified mid-traversal.
+        public OpenAddressingSpliterator(Object[] keys, V[] values, int index, int fence, long estimate) {
+            this.keys = keys;
+            this.values = values;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            for (; this.index < this.fence; this.index++) {
+                if (this.keys[this.index] != null) {
+                    action.accept(new KVPair<>(unmask(this.keys[this.index]), this.values[this.index]));
+                    this.index++;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super KVPair<K, V>> action) {
+            for (; this.index < this.fence; this.index++) {
+                if (this.keys[this.index] != null) {
+                    action.accept(new KVPair<>(unmask(this.keys[this.index]), this.values[this.index]));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (this.index + this.fence) >>> 1;
+            if (mid <= this.index) {
+                return null;
+            }
+            this.estimate >>>= 1;
+            Spliterator<KVPair<K, V>> prefix =
+                    new OpenAddressingSpliterator<>(this.keys, this.values, this.index, mid, this.estimate);
+            this.index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    private static class OpenAddressingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Object[] keys;
+        private V[] values;
+        private int remaining; // Number of entries we have yet to return.
+        private int index; // Next slot to examine.
+
+        // Like ChainedIterator, assumes the dictionary isn't modified mid-iteration.
+        public OpenAddressingIterator(Object[] keys, V[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.remaining = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (this.keys[this.index] == null) {
+                this.index++;
+            }
+            KVPair<K, V> pair = new KVPair<>(unmask(this.keys[this.index]), this.values[this.index]);
+            this.index++;
+            this.remaining--;
+            return pair;
+        }
+    }
+}
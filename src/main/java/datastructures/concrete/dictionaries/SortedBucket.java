@@ -0,0 +1,208 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A ChainedHashDictionary bucket that keeps its entries sorted by (spread) hash code.
+ *
+ * ChainedHashDictionary switches a bucket to this representation once it grows past
+ * TREEIFY_THRESHOLD entries, so a lookup binary searches for the key's hash instead of
+ * scanning the whole chain. Only keys whose full hash codes are equal still have to be
+ * compared one by one.
+ */
+class SortedBucket<K, V> implements IDictionary<K, V>, IndexedEntries<K, V> {
+    // Invariants: hashes[i] == Hashing.hash(keys[i]) for i < size, and hashes[0..size) is sorted.
+    private int[] hashes;
+    private K[] keys;
+    private V[] values;
+    private int size;
+
+    /**
+     * Creates a bucket holding the same entries as the given chain.
+     */
+    SortedBucket(IndexedEntries<K, V> chain) {
+        int capacity = Math.max(4, chain.size() * 2);
+        this.hashes = new int[capacity];
+        this.keys = makeArrayOfKeys(capacity);
+        this.values = makeArrayOfValues(capacity);
+        this.size = 0;
+        for (int i = 0; i < chain.size(); i++) {
+            this.put(chain.keyAt(i), chain.valueAt(i));
+        }
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private K[] makeArrayOfKeys(int arraySize) {
+        return (K[]) new Object[arraySize];
+    }
+
+    /**
+     * See ArrayDictionary's makeArrayOfPairs(...) method for why we need this helper.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfValues(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    @Override
+    public V get(K key) {
+        int index = this.findIndex(key, Hashing.hash(key));
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.findIndex(key, Hashing.hash(key));
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = Hashing.hash(key);
+        int index = this.findIndex(key, hash);
+        if (index >= 0) {
+            this.values[index] = value;
+            return;
+        }
+
+        if (this.size == this.keys.length) {
+            int capacity = this.size * 2;
+            int[] newHashes = new int[capacity];
+            K[] newKeys = makeArrayOfKeys(capacity);
+            V[] newValues = makeArrayOfValues(capacity);
+            System.arraycopy(this.hashes, 0, newHashes, 0, this.size);
+            System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+            System.arraycopy(this.values, 0, newValues, 0, this.size);
+            this.hashes = newHashes;
+            this.keys = newKeys;
+            this.values = newValues;
+        }
+
+        // Insert after any entries with the same hash.
+        int insertAt = this.lowerBound(hash + 1L);
+        int moved = this.size - insertAt;
+        System.arraycopy(this.hashes, insertAt, this.hashes, insertAt + 1, moved);
+        System.arraycopy(this.keys, insertAt, this.keys, insertAt + 1, moved);
+        System.arraycopy(this.values, insertAt, this.values, insertAt + 1, moved);
+        this.hashes[insertAt] = hash;
+        this.keys[insertAt] = key;
+        this.values[insertAt] = value;
+        this.size++;
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = this.findIndex(key, Hashing.hash(key));
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        V value = this.values[index];
+        int moved = this.size - index - 1;
+        System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+        System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+        System.arraycopy(this.values, index + 1, this.values, index, moved);
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findIndex(key, Hashing.hash(key)) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public K keyAt(int index) {
+        return this.keys[index];
+    }
+
+    @Override
+    public V valueAt(int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.keys[i], this.values[i]);
+        }
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new SortedBucketIterator<>(this);
+    }
+
+    /**
+     * Returns the position of the given key, or -1 if it is absent.
+     */
+    private int findIndex(K key, int hash) {
+        for (int i = this.lowerBound(hash); i < this.size && this.hashes[i] == hash; i++) {
+            if (Objects.equals(this.keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first position whose hash is at least 'hash'. Takes a long so that
+     * callers can ask for 'hash + 1' without overflowing.
+     */
+    private int lowerBound(long hash) {
+        int lo = 0;
+        int hi = this.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.hashes[mid] < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static class SortedBucketIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final SortedBucket<K, V> bucket;
+        private int index;
+
+        public SortedBucketIterator(SortedBucket<K, V> bucket) {
+            this.bucket = bucket;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.bucket.size;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(this.bucket.keys[this.index], this.bucket.values[this.index]);
+            this.index++;
+            return pair;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package datastructures.interfaces;
+
+/**
+ * A priority queue that many threads may use at once.
+ *
+ * Implementations may be relaxed: pollMin need not return the very smallest element, only one
+ * close to it. Each implementation documents how far off it can be. Duplicate elements are
+ * allowed, so searches can push a vertex again rather than decreasing its key, and skip the
+ * stale copies when they come out.
+ */
+public interface IConcurrentPriorityQueue<T extends Comparable<T>> {
+    /**
+     * Adds the given item into the queue.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    void add(T item);
+
+    /**
+     * Removes and returns a small element of the queue, or returns null if the queue looked
+     * empty during the call.
+     */
+    T pollMin();
+
+    /**
+     * Returns the number of elements in the queue. While other threads are adding or removing,
+     * this is only an estimate.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue looks empty, and 'false' otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+}
@@ -4,6 +4,12 @@ import datastructures.concrete.dictionaries.KVPair;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains a bunch of key-value mappings. Each key must be unique.
@@ -46,6 +52,17 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      */
     public V remove(K key);
 
+    /**
+     * Puts every key-value pair from 'other' into this dictionary, replacing the values of
+     * any keys this dictionary already contains.
+     *
+     * Note: implementations may override this to grow their storage once, up front,
+     * instead of repeatedly while the pairs are added.
+     */
+    public default void putAll(IDictionary<? extends K, ? extends V> other) {
+        other.forEach(this::put);
+    }
+
     /**
      * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
      */
@@ -68,4 +85,97 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      * contained within this dict.
      */
     public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Returns a spliterator over all key-value pairs contained within this dict.
+     *
+     * Note: the default implementation splits off batches copied from iterator().
+     * Implementations override it to split their storage directly.
+     */
+    @Override
+    public default Spliterator<KVPair<K, V>> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over all key-value pairs contained within this dict.
+     */
+    public default Stream<KVPair<K, V>> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over all key-value pairs contained within this dict.
+     */
+    public default Stream<KVPair<K, V>> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Calls the given action once for each key-value pair in this dictionary.
+     *
+     * Note: the default implementation goes through iterator(), which creates a KVPair
+     * per entry. Implementations override it to hand out keys and values directly.
+     */
+    public default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (KVPair<K, V> pair : this) {
+            action.accept(pair.getKey(), pair.getValue());
+        }
+    }
+
+    /**
+     * Calls the given action once for each key in this dictionary.
+     */
+    public default void forEachKey(Consumer<? super K> action) {
+        this.forEach((key, value) -> action.accept(key));
+    }
+
+    /**
+     * Calls the given action once for each value in this dictionary.
+     */
+    public default void forEachValue(Consumer<? super V> action) {
+        this.forEach((key, value) -> action.accept(value));
+    }
+
+    /**
+     * Returns a new cursor positioned just before the first entry of this dictionary.
+     *
+     * Note: the default implementation wraps iterator(), and so still creates a KVPair per
+     * entry. Implementations override it with a cursor that reads their storage directly.
+     */
+    public default IDictionaryCursor<K, V> cursor() {
+        IDictionary<K, V> dict = this;
+        return new IDictionaryCursor<K, V>() {
+            private Iterator<KVPair<K, V>> iter = dict.iterator();
+            private KVPair<K, V> current = null;
+
+            @Override
+            public boolean advance() {
+                this.current = this.iter.hasNext() ? this.iter.next() : null;
+                return this.current != null;
+            }
+
+            @Override
+            public K getKey() {
+                if (this.current == null) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry");
+                }
+                return this.current.getKey();
+            }
+
+            @Override
+            public V getValue() {
+                if (this.current == null) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry");
+                }
+                return this.current.getValue();
+            }
+
+            @Override
+            public void reset() {
+                this.iter = dict.iterator();
+                this.current = null;
+            }
+        };
+    }
 }
@@ -0,0 +1,43 @@
+package datastructures.interfaces;
+
+/**
+ * A reusable, mutable position within a dictionary.
+ *
+ * Unlike an Iterator over KVPairs, a cursor hands out the key and value of the current entry
+ * directly, so walking a dictionary with one doesn't allocate a pair per entry. A typical loop
+ * looks like:
+ *
+ *     IDictionaryCursor<K, V> cursor = dict.cursor();
+ *     while (cursor.advance()) {
+ *         use(cursor.getKey(), cursor.getValue());
+ *     }
+ *
+ * Calling reset() rewinds the cursor so the same object can walk the dictionary again.
+ * As with iterators, the dictionary must not be modified while a cursor is in use.
+ */
+public interface IDictionaryCursor<K, V> {
+    /**
+     * Moves to the next entry. Returns 'true' if there was one, and 'false' if the cursor
+     * has run past the last entry.
+     */
+    public boolean advance();
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @throws IllegalStateException  if the cursor is not positioned on an entry
+     */
+    public K getKey();
+
+    /**
+     * Returns the value of the current entry.
+     *
+     * @throws IllegalStateException  if the cursor is not positioned on an entry
+     */
+    public V getValue();
+
+    /**
+     * Rewinds the cursor to just before the first entry.
+     */
+    public void reset();
+}
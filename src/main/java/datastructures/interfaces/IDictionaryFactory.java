@@ -0,0 +1,25 @@
+package datastructures.interfaces;
+
+/**
+ * Creates empty dictionaries.
+ *
+ * Classes that build dictionaries internally (Graph, ChainedHashSet, VoronoiGenerator, ...) accept one of
+ * these so the client can pick which IDictionary implementation backs them. A reference to a
+ * static method that takes the expected size works as a factory; for example:
+ *
+ *     new Graph<>(vertices, edges, OpenAddressingDictionary::withExpectedSize)
+ */
+public interface IDictionaryFactory {
+    /**
+     * Returns a new, empty dictionary sized to hold about 'expectedSize' entries without
+     * growing. An expected size of 0 means the size isn't known.
+     */
+    public <K, V> IDictionary<K, V> makeDictionary(int expectedSize);
+
+    /**
+     * Returns a new, empty dictionary with the default capacity.
+     */
+    public default <K, V> IDictionary<K, V> makeDictionary() {
+        return this.makeDictionary(0);
+    }
+}
@@ -0,0 +1,88 @@
+package datastructures.interfaces;
+
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+/**
+ * A priority queue of non-negative int ids (typically vertex numbers) ordered by double
+ * priorities. Each id may be in the queue at most once.
+ *
+ * This is the queue Graph's shortest-path search runs on; implementations differ in what
+ * priorities they accept and in what order they break ties.
+ */
+public interface IDoubleIntPriorityQueue {
+    /**
+     * Adds the given id with the given priority.
+     *
+     * @throws IllegalArgumentException  if the id is negative or the priority is not accepted
+     * @throws InvalidElementException  if the id is already in the queue
+     */
+    void add(int id, double priority);
+
+    /**
+     * Adds the id if it is absent, or lowers its priority if the new one is smaller. Returns
+     * 'true' if the queue changed.
+     *
+     * @throws IllegalArgumentException  if the id is negative or the priority is not accepted
+     */
+    boolean addOrDecrease(int id, double priority);
+
+    /**
+     * Lowers the priority of the given id.
+     *
+     * @throws IllegalArgumentException  if the new priority is greater than the old one, or is
+     *                                   not accepted
+     * @throws InvalidElementException  if the id is not in the queue
+     */
+    void decreaseKey(int id, double priority);
+
+    /**
+     * Returns 'true' if the given id is in the queue.
+     */
+    boolean contains(int id);
+
+    /**
+     * Returns the current priority of the given id.
+     *
+     * @throws InvalidElementException  if the id is not in the queue
+     */
+    double priorityOf(int id);
+
+    /**
+     * Returns, but does not remove, the id with the least priority.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    int peekMin();
+
+    /**
+     * Returns the least priority in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    double peekMinPriority();
+
+    /**
+     * Removes and returns the id with the least priority.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    int removeMin();
+
+    /**
+     * Returns the number of ids in the queue.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue is empty, and 'false' otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes every id.
+     */
+    void clear();
+}
@@ -0,0 +1,93 @@
+package datastructures.interfaces;
+
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+
+/**
+ * A priority queue that hands out an integer 'handle' for every element it accepts. The
+ * handle is what the client uses afterwards to look at, re-prioritize or remove the element,
+ * so the queue never needs to hash or compare elements for equality to find them.
+ *
+ * Handles are assigned in order: the first element added gets handle 0, the next one 1, and
+ * so on. A handle stays valid after its element is removed, but it is never reused.
+ *
+ * Unlike IPriorityQueue, duplicate elements (based on the 'equals' method) are allowed.
+ */
+public interface IIndexedPriorityQueue<T extends Comparable<T>> {
+    /**
+     * Adds the given item into the queue and returns its handle.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    int add(T item);
+
+    /**
+     * Removes and returns the smallest element in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    T removeMin();
+
+    /**
+     * Removes the smallest element in the queue and returns its handle.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    int removeMinHandle();
+
+    /**
+     * Returns, but does not remove, the smallest element in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    T peekMin();
+
+    /**
+     * Returns the element last associated with the given handle. This still works once the
+     * element has been removed from the queue.
+     *
+     * @throws InvalidElementException  if the handle was never handed out by this queue
+     */
+    T get(int handle);
+
+    /**
+     * Returns 'true' if the element with the given handle is still in the queue.
+     */
+    boolean contains(int handle);
+
+    /**
+     * Replaces the element with the given handle by a new element that is no greater than it.
+     *
+     * @throws IllegalArgumentException  if the new item is null or greater than the old one
+     * @throws InvalidElementException  if the handle's element is not in the queue
+     */
+    void decreaseKey(int handle, T newItem);
+
+    /**
+     * Replaces the element with the given handle by a new element, which may be smaller or
+     * larger than the old one.
+     *
+     * @throws IllegalArgumentException  if the new item is null
+     * @throws InvalidElementException  if the handle's element is not in the queue
+     */
+    void update(int handle, T newItem);
+
+    /**
+     * Removes the element with the given handle from the queue.
+     *
+     * @throws InvalidElementException  if the handle's element is not in the queue
+     */
+    void remove(int handle);
+
+    /**
+     * Returns the number of elements contained within this queue.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue is empty, and 'false' otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+}
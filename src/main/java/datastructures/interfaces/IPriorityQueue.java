@@ -40,6 +40,21 @@ public interface IPriorityQueue<T extends Comparable<T>> {
      */
     void add(T item);
 
+    /**
+     * Adds every given item into the queue.
+     *
+     * Note: implementations may override this with something faster than adding
+     * the items one at a time (for example, building a heap bottom-up).
+     *
+     * @throws IllegalArgumentException  if any item is null
+     * @throws InvalidElementException  if any item is already in the queue, or appears twice
+     */
+    default void addAll(Iterable<? extends T> items) {
+        for (T item : items) {
+            this.add(item);
+        }
+    }
+
     /**
      * Returns 'true' if this queue contains the given element, and 'false' otherwise.
      *
@@ -2,6 +2,10 @@ package datastructures.interfaces;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains a unique collection of items.
@@ -42,4 +46,96 @@ public interface ISet<T> extends Iterable<T> {
      * Returns all items contained within this set.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over all items contained within this set.
+     *
+     * Note: the default implementation splits off batches copied from iterator().
+     * Implementations override it to split their storage directly.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential stream over all items contained within this set.
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over all items contained within this set.
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Adds every item in 'other' to this set.
+     */
+    public default void addAll(ISet<T> other) {
+        other.forEach(this::add);
+    }
+
+    /**
+     * Removes every item in 'other' from this set. Items of 'other' that aren't in this set
+     * are ignored.
+     */
+    public default void removeAll(ISet<T> other) {
+        other.forEach(item -> {
+            if (this.contains(item)) {
+                this.remove(item);
+            }
+        });
+    }
+
+    /**
+     * Removes every item from this set that is not also in 'other'.
+     */
+    @SuppressWarnings("unchecked")
+    public default void retainAll(ISet<T> other) {
+        // Removing items mid-iteration isn't safe, so the first pass counts the items to
+        // remove and the second copies them into an array of exactly that size.
+        int count = 0;
+        for (T item : this) {
+            if (!other.contains(item)) {
+                count++;
+            }
+        }
+        Object[] toRemove = new Object[count];
+        int found = 0;
+        for (T item : this) {
+            if (found < count && !other.contains(item)) {
+                toRemove[found] = item;
+                found++;
+            }
+        }
+        for (int i = 0; i < found; i++) {
+            this.remove((T) toRemove[i]);
+        }
+    }
+
+    /**
+     * Returns a set of every item in this set or in 'other', leaving both sets unchanged.
+     *
+     * Note: implementations may return a new set, or a read-only view (such as SetView) that
+     * copies nothing but reflects later changes to either set.
+     */
+    public ISet<T> union(ISet<T> other);
+
+    /**
+     * Returns a set of every item in this set that is not in 'other', leaving both sets unchanged.
+     *
+     * Note: see union(...) for what implementations may return.
+     */
+    public ISet<T> difference(ISet<T> other);
+
+    /**
+     * Returns a set of every item in both this set and 'other', leaving both sets unchanged.
+     *
+     * Note: see union(...) for what implementations may return.
+     */
+    public ISet<T> intersection(ISet<T> other);
 }
@@ -11,6 +11,12 @@ import datastructures.interfaces.IEdge;
  * given rooms.
  */
 public class Wall implements IEdge<Room>, Comparable<Wall> {
+    /**
+     * The id of a wall that was constructed without one.
+     */
+    public static final int NO_ID = -1;
+
+    private final int id;
     private Room room1;
     private Room room2;
     private LineSegment dividingLine;
@@ -23,6 +29,27 @@ public class Wall implements IEdge<Room>, Comparable<Wall> {
      * rooms; the dividingLine is the actual line to draw on the screen.
      */
     public Wall(Room room1, Room room2, LineSegment dividingLine, double distance) {
+        this(NO_ID, room1, room2, dividingLine, distance);
+    }
+
+    /**
+     * Constructs a wall between the two given rooms, and automatically constructs
+     * the distance.
+     */
+    public Wall(Room room1, Room room2, LineSegment dividingLine) {
+        this(NO_ID, room1, room2, dividingLine);
+    }
+
+    /**
+     * Constructs a wall with the given id, which should be unique and small among the walls of
+     * its maze, so that sets of walls can be stored as an IdSet.
+     */
+    public Wall(int id, Room room1, Room room2, LineSegment dividingLine) {
+        this(id, room1, room2, dividingLine, room1.getCenter().distance(room2.getCenter()));
+    }
+
+    private Wall(int id, Room room1, Room room2, LineSegment dividingLine, double distance) {
+        this.id = id;
         this.room1 = room1;
         this.room2 = room2;
         this.dividingLine = dividingLine;
@@ -30,11 +57,10 @@ public class Wall implements IEdge<Room>, Comparable<Wall> {
     }
 
     /**
-     * Constructs a wall between the two given rooms, and automatically constructs
-     * the distance.
+     * Returns this wall's id, or NO_ID if it doesn't have one.
      */
-    public Wall(Room room1, Room room2, LineSegment dividingLine) {
-        this(room1, room2, dividingLine, room1.getCenter().distance(room2.getCenter()));
+    public int getId() {
+        return this.id;
     }
 
     /**
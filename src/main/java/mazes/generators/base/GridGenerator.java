@@ -1,6 +1,7 @@
 package mazes.generators.base;
 
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IdSet;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
@@ -64,7 +65,7 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Room> extractRooms(Room[][] grid) {
-        ISet<Room> rooms = new ChainedHashSet<>();
+        ISet<Room> rooms = new ChainedHashSet<>(this.numColumns * this.numRows);
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
                 rooms.add(grid[x][y]);
@@ -74,7 +75,10 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Wall> extractWalls(Room[][] grid) {
-        ISet<Wall> walls = new ChainedHashSet<>();
+        // Every room but those in the first column has a wall to its left, and every room
+        // but those in the first row has a wall above it.
+        int numWalls = (this.numColumns - 1) * this.numRows + this.numColumns * (this.numRows - 1);
+        ISet<Wall> walls = new IdSet<>(Wall::getId, Math.max(numWalls, 0));
 
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
@@ -82,10 +86,10 @@ public class GridGenerator extends BaseMazeGenerator {
                 IList<LineSegment> segments = this.polygonToLineSegment(room.getPolygon());
 
                 if (x > 0) {
-                    walls.add(new Wall(room, grid[x - 1][y], segments.get(3)));
+                    walls.add(new Wall(walls.size(), room, grid[x - 1][y], segments.get(3)));
                 }
                 if (y > 0) {
-                    walls.add(new Wall(room, grid[x][y - 1], segments.get(0)));
+                    walls.add(new Wall(walls.size(), room, grid[x][y - 1], segments.get(0)));
                 }
             }
         }
@@ -1,10 +1,12 @@
 package mazes.generators.base;
 
 import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.IdSet;
+import datastructures.concrete.IntList;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.LongObjDictionary;
 import datastructures.interfaces.IDictionary;
-import datastructures.interfaces.IList;
+import datastructures.interfaces.IDictionaryFactory;
 import datastructures.interfaces.ISet;
 import kn.uni.voronoitreemap.datastructure.OpenList;
 import kn.uni.voronoitreemap.diagram.PowerDiagram;
@@ -27,6 +29,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
     private int sampleRate;
     private int minimumWallLength;
     private int minimumSpaceFromBoundingBox;
+    private IDictionaryFactory factory;
 
     /**
      * @param numRooms  the number of rooms the graph should contain
@@ -35,6 +38,16 @@ public class VoronoiGenerator extends BaseMazeGenerator {
      * @param minimumSpaceFromBoundingBox  how far away the center of the room should be from the bounding box
      */
     public VoronoiGenerator(int numRooms, int sampleRate, int minimumWallLength, int minimumSpaceFromBoundingBox) {
+        this(numRooms, sampleRate, minimumWallLength, minimumSpaceFromBoundingBox, ChainedHashDictionary::withExpectedSize);
+    }
+
+    /**
+     * Same as above, but uses the given factory for the lookup tables and sets built while
+     * matching up walls.
+     */
+    public VoronoiGenerator(int numRooms, int sampleRate, int minimumWallLength, int minimumSpaceFromBoundingBox,
+                            IDictionaryFactory factory) {
+        this.factory = factory;
         this.numRooms = numRooms;
         this.sampleRate = sampleRate;
         this.minimumWallLength = minimumWallLength;
@@ -59,18 +72,20 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         diagram.computeDiagram();
 
         // Convert sites into rooms
-        ISet<Room> rooms = new ChainedHashSet<>();
-        IDictionary<Point, Room> pointsToSite = new ChainedHashDictionary<>();
+        ISet<Room> rooms = new ChainedHashSet<>(this.factory, this.numRooms);
+        LongObjDictionary<Room> pointsToSite = new LongObjDictionary<>(this.numRooms);
         for (Site site : sites) {
             Room room = this.siteToRoom(site);
-            pointsToSite.put(room.getCenter(), room);
+            pointsToSite.put(pack(room.getCenter()), room);
             rooms.add(room);
         }
 
-        // Convert sites into walls; build edges
-        ISet<Wall> walls = new ChainedHashSet<>();
-        ISet<Wall> untouchableWalls = new ChainedHashSet<>();
-        IDictionary<LineSegment, Point> edgeToPoints = new ChainedHashDictionary<>();
+        // Convert sites into walls; build edges. A Voronoi diagram is a planar graph, so it
+        // has fewer than three edges per site.
+        int maxWalls = 3 * this.numRooms;
+        ISet<Wall> walls = new IdSet<>(Wall::getId, maxWalls);
+        ISet<Wall> untouchableWalls = new ChainedHashSet<>(this.factory);
+        IDictionary<LineSegment, Point> edgeToPoints = this.factory.makeDictionary(maxWalls);
         for (Room room : rooms) {
             Point vertex = room.getCenter();
             for (LineSegment seg : this.polygonToLineSegment(room.getPolygon())) {
@@ -78,7 +93,8 @@ public class VoronoiGenerator extends BaseMazeGenerator {
                     edgeToPoints.put(seg, vertex);
                 } else {
                     Point otherVertex = edgeToPoints.get(seg);
-                    Wall wall = new Wall(pointsToSite.get(vertex), pointsToSite.get(otherVertex), seg);
+                    Wall wall = new Wall(walls.size() + untouchableWalls.size(),
+                            pointsToSite.get(pack(vertex)), pointsToSite.get(pack(otherVertex)), seg);
                     if (seg.length() > this.minimumWallLength) {
                         walls.add(wall);
                     } else {
@@ -114,7 +130,9 @@ public class VoronoiGenerator extends BaseMazeGenerator {
 
     private OpenList generateCells(Rectangle boundingBox) {
         OpenList output = new OpenList();
-        IList<Point> points = new DoubleLinkedList<>();
+        // The chosen points, kept unboxed as parallel coordinate lists.
+        IntList xs = new IntList(this.numRooms);
+        IntList ys = new IntList(this.numRooms);
 
         Random rand = new Random();
         for (int i = 0; i < this.numRooms; i++) {
@@ -124,33 +142,40 @@ public class VoronoiGenerator extends BaseMazeGenerator {
             for (int j = 0; j < this.sampleRate; j++) {
                 int randX = this.nextInt(rand, boundingBox.x, boundingBox.x + boundingBox.width);
                 int randY = this.nextInt(rand, boundingBox.y, boundingBox.y + boundingBox.height);
-                Point candidate = new Point(randX, randY);
 
-                double distance = this.getClosest(candidate, points);
+                double distance = this.getClosest(randX, randY, xs, ys);
                 if (distance > bestDistance) {
                     bestDistance = distance;
-                    bestPoint = candidate;
+                    bestPoint = new Point(randX, randY);
                 }
             }
 
             assert bestPoint != null;
             output.add(new Site(bestPoint.x, bestPoint.y));
-            points.add(bestPoint);
+            xs.add(bestPoint.x);
+            ys.add(bestPoint.y);
         }
 
         return output;
     }
 
-    private double getClosest(Point target, IList<Point> coords) {
-        double bestDistance = Double.MAX_VALUE;
-        for (Point point : coords) {
-            double distance = point.distance(target);
+    private double getClosest(int x, int y, IntList xs, IntList ys) {
+        // Compare squared distances, and only take the square root of the best one.
+        long bestDistance = Long.MAX_VALUE;
+        for (int i = 0; i < xs.size(); i++) {
+            long dx = xs.get(i) - x;
+            long dy = ys.get(i) - y;
+            long distance = dx * dx + dy * dy;
             if (distance < bestDistance) {
                 bestDistance = distance;
             }
         }
 
-        return bestDistance;
+        return bestDistance == Long.MAX_VALUE ? Double.MAX_VALUE : Math.sqrt(bestDistance);
+    }
+
+    private static long pack(Point point) {
+        return LongObjDictionary.packInts(point.x, point.y);
     }
 
     private int nextInt(Random rand, int min, int max) {
@@ -1,12 +1,16 @@
 package mazes.generators.maze;
 
 import datastructures.concrete.Graph;
+import datastructures.concrete.IdSet;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionaryFactory;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 /**
  * Carves out a maze based on Kruskal's algorithm.
@@ -14,22 +18,41 @@ import java.util.Random;
  * See the spec for more details.
  */
 public class KruskalMazeCarver implements MazeCarver {
+    /**
+     * Mazes with at least this many walls have their weights assigned and reset in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 10000;
+
+    private IDictionaryFactory factory;
+
+    public KruskalMazeCarver() {
+        this(ChainedHashDictionary::withExpectedSize);
+    }
+
+    /**
+     * Creates a carver whose graph uses dictionaries from the given factory.
+     */
+    public KruskalMazeCarver(IDictionaryFactory factory) {
+        this.factory = factory;
+    }
+
     @Override
     public ISet<Wall> returnWallsToRemove(Maze maze) {
-        Random randy = new Random();
         ISet<Wall> walls = maze.getWalls();
-        for (Wall wall : walls) {
-            wall.setDistance(randy.nextDouble());
-        }
+        wallStream(walls).forEach(wall -> wall.setDistance(ThreadLocalRandom.current().nextDouble()));
 
-        Graph<Room, Wall> graph = new Graph<>(maze.getRooms(), walls);
-        ISet<Wall> wallsMst = graph.findMinimumSpanningTree();
+        Graph<Room, Wall> graph = new Graph<>(maze.getRooms(), walls, this.factory);
+        ISet<Wall> wallsMst = walls instanceof IdSet
+                ? graph.findMinimumSpanningTree(((IdSet<Wall>) walls).emptyCopy())
+                : graph.findMinimumSpanningTree();
 
         // Reset distances.
-        for (Wall wall : walls) {
-            wall.resetDistanceToOriginal();
-        }
+        wallStream(walls).forEach(Wall::resetDistanceToOriginal);
 
         return wallsMst;
     }
+
+    private static Stream<Wall> wallStream(ISet<Wall> walls) {
+        return walls.size() >= PARALLEL_THRESHOLD ? walls.parallelStream() : walls.stream();
+    }
 }
@@ -1,6 +1,7 @@
 package mazes.generators.maze;
 
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IdSet;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -30,10 +31,18 @@ public interface MazeCarver {
 
         ISet<Wall> toRemove = this.returnWallsToRemove(initialMaze);
 
-        ISet<Wall> newWalls = new ChainedHashSet<>();
-        for (Wall wall : initialMaze.getWalls()) {
-            if (!toRemove.contains(wall)) {
-                newWalls.add(wall);
+        // Walls with ids live in an IdSet, whose difference is a new IdSet built 64 walls at
+        // a time. Other sets may return a live view, so their walls are copied instead.
+        ISet<Wall> walls = initialMaze.getWalls();
+        ISet<Wall> newWalls;
+        if (walls instanceof IdSet) {
+            newWalls = walls.difference(toRemove);
+        } else {
+            newWalls = new ChainedHashSet<>(walls.size());
+            for (Wall wall : walls) {
+                if (!toRemove.contains(wall)) {
+                    newWalls.add(wall);
+                }
             }
         }
 
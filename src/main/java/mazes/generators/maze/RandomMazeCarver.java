@@ -1,6 +1,7 @@
 package mazes.generators.maze;
 
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IdSet;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -21,12 +22,13 @@ public class RandomMazeCarver implements MazeCarver {
     public ISet<Wall> returnWallsToRemove(Maze maze) {
         Random rand = new Random();
 
-        ISet<Wall> toRemove = new ChainedHashSet<>();
-        for (Wall wall : maze.getWalls()) {
+        ISet<Wall> walls = maze.getWalls();
+        ISet<Wall> toRemove = walls instanceof IdSet ? ((IdSet<Wall>) walls).emptyCopy() : new ChainedHashSet<>();
+        walls.forEach(wall -> {
             if (rand.nextDouble() >= this.probabilityOfKeepingEdge) {
                 toRemove.add(wall);
             }
-        }
+        });
         return toRemove;
     }
 }
@@ -2,6 +2,7 @@ package mazes.gui;
 
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
 import mazes.entities.LineSegment;
@@ -9,6 +10,7 @@ import mazes.entities.LineSegment;
 import java.awt.*;
 import java.awt.geom.Path2D;
 import java.awt.image.ImageObserver;
+import java.util.stream.Stream;
 
 /**
  * This class contains some useful utility methods for drawing to the plotting window.
@@ -19,6 +21,9 @@ import java.awt.image.ImageObserver;
 public class ImageDrawer implements ImageObserver {
     private static final int UNKNOWN_DIMENSION = -1;
 
+    // Mazes with at least this many walls have their outlines built in parallel.
+    private static final int PARALLEL_THRESHOLD = 10000;
+
     private Graphics2D graphics;
     private int width = UNKNOWN_DIMENSION;
     private int height = UNKNOWN_DIMENSION;
@@ -129,20 +134,33 @@ public class ImageDrawer implements ImageObserver {
         this.graphics.setStroke(new BasicStroke(4));
 
         this.graphics.draw(this.getBoundingBox());
-        for (Wall wall : maze.getWalls()) {
-            this.drawLineSegment(wall.getDividingLine());
-            if (showEdges) {
+        if (showEdges) {
+            maze.getWalls().forEach(wall -> {
+                this.drawLineSegment(wall.getDividingLine());
                 this.drawPath(wall);
-            }
-        }
-        for (Wall wall : maze.getUntouchableWalls()) {
-            this.drawLineSegment(wall.getDividingLine());
+            });
+        } else {
+            this.graphics.draw(wallOutlines(maze.getWalls()));
         }
+        this.graphics.draw(wallOutlines(maze.getUntouchableWalls()));
 
         this.graphics.setColor(originalColor);
         this.graphics.setStroke(originalStroke);
     }
 
+    /**
+     * Returns one path holding every wall's dividing line, so the whole batch can be stroked
+     * with a single draw call. Large batches are built in parallel, a piece per thread.
+     */
+    private static Path2D wallOutlines(ISet<Wall> walls) {
+        Stream<Wall> stream = walls.size() >= PARALLEL_THRESHOLD ? walls.parallelStream() : walls.stream();
+        return stream.collect(Path2D.Double::new, (path, wall) -> {
+            LineSegment segment = wall.getDividingLine();
+            path.moveTo(segment.start.x, segment.start.y);
+            path.lineTo(segment.end.x, segment.end.y);
+        }, (path, other) -> path.append(other, false));
+    }
+
     public void drawLineSegment(LineSegment segment) {
         this.drawLineSegment(segment.start, segment.end);
     }
@@ -164,7 +182,7 @@ public class ImageDrawer implements ImageObserver {
         this.graphics.setColor(Color.RED);
         this.graphics.setStroke(new BasicStroke(2));
 
-        for (Wall wall : wallsBypassed) {
+        wallsBypassed.forEach(wall -> {
             LineSegment segment = wall.getDividingLine();
 
             Point center1 = wall.getRoom1().getCenter();
@@ -178,7 +196,7 @@ public class ImageDrawer implements ImageObserver {
             path.moveTo(center1.x, center1.y);
             path.curveTo(midpoint.x, midpoint.y, midpoint.x, midpoint.y, center2.x, center2.y);
             this.graphics.draw(path);
-        }
+        });
 
         this.graphics.setColor(originalColor);
         this.graphics.setStroke(originalStroke);
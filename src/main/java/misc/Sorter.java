@@ -1,7 +1,7 @@
 package misc;
 
 import datastructures.concrete.ArrayHeap;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 
@@ -47,7 +47,7 @@ public class Sorter {
             k = input.size();
         }
 
-        IList<T> ret = new DoubleLinkedList<>();
+        IList<T> ret = new DynamicArrayList<>(k);
         // Evict the client if they only want 0 elements (why?)
         if (k == 0) {
             return ret;
@@ -0,0 +1,59 @@
+package benchmarks;
+
+/**
+ * A tiny timing helper shared by the benchmarks in this package.
+ *
+ * The benchmarks are plain 'main' programs rather than unit tests; run one with
+ *
+ *     gradle benchmark -Pbench=DictionaryBenchmark
+ *
+ * Each measurement runs a few warm-up rounds (so the JIT has a chance to compile the code
+ * under test) and then reports the fastest of the timed rounds.
+ */
+public class BenchmarkTimer {
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int TIMED_ROUNDS = 3;
+
+    private BenchmarkTimer() {
+        // Static helpers only.
+    }
+
+    /**
+     * Times the given task and prints the best round, in milliseconds.
+     */
+    public static double time(String label, Runnable task) {
+        return time(label, task, WARMUP_ROUNDS, TIMED_ROUNDS);
+    }
+
+    /**
+     * Same as above, with an explicit number of warm-up and timed rounds.
+     */
+    public static double time(String label, Runnable task, int warmupRounds, int timedRounds) {
+        for (int i = 0; i < warmupRounds; i++) {
+            task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < timedRounds; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double millis = best / 1e6;
+        System.out.printf("%-60s %12.2f ms%n", label, millis);
+        return millis;
+    }
+
+    /**
+     * Parses the command-line sizes, falling back to the given defaults.
+     */
+    public static int[] sizes(String[] args, int... defaults) {
+        if (args.length == 0) {
+            return defaults;
+        }
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import datastructures.concrete.dictionaries.ConcurrentHashDictionary;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures ConcurrentHashDictionary throughput from 1 up to N threads, where N defaults to
+ * the number of available processors.
+ *
+ * Each thread runs a mix of 80% gets, 10% puts and 10% computes over a shared key space,
+ * like a room lookup table shared by several solver threads.
+ *
+ * Arguments: [keys] [operations per thread] [max threads]
+ */
+public class ConcurrentDictionaryBenchmark {
+    public static void main(String[] args) {
+        int numKeys = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int opsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        // Doubles the thread count each round, finishing with exactly maxThreads.
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            for (int stripes : new int[] {1, ConcurrentHashDictionary.DEFAULT_STRIPES, 256}) {
+                run(threads, stripes, numKeys, opsPerThread);
+            }
+            if (threads >= maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static void run(int numThreads, int stripes, int numKeys, int opsPerThread) {
+        ConcurrentHashDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>(0, stripes);
+        for (int i = 0; i < numKeys; i++) {
+            dict.put(i, i);
+        }
+
+        AtomicLong checksum = new AtomicLong();
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            long seed = 0x9E3779B97F4A7C15L * (t + 1);
+            threads[t] = new Thread(() -> {
+                long state = seed;
+                long sum = 0;
+                for (int i = 0; i < opsPerThread; i++) {
+                    state ^= state << 13;
+                    state ^= state >>> 7;
+                    state ^= state << 17;
+                    int key = (int) ((state >>> 1) % numKeys);
+                    int choice = (int) (state & 15);
+                    if (choice < 13) {
+                        sum += dict.getOrDefault(key, 0);
+                    } else if (choice < 15) {
+                        dict.put(key, i);
+                    } else {
+                        dict.compute(key, (k, old) -> old == null ? 1 : old + 1);
+                    }
+                }
+                checksum.addAndGet(sum);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double mops = (double) numThreads * opsPerThread / seconds / 1e6;
+        System.out.printf("threads=%-3d stripes=%-4d %8.2f Mops/s  (checksum %d)%n",
+                numThreads, stripes, mops, checksum.get());
+    }
+}
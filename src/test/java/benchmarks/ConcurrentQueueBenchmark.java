@@ -0,0 +1,81 @@
+package benchmarks;
+
+import datastructures.concrete.MultiQueue;
+import datastructures.interfaces.IConcurrentPriorityQueue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures MultiQueue throughput from 1 up to N threads, where N defaults to the number of
+ * available processors, against a MultiQueue with a single shard (one lock, exact order).
+ *
+ * The queue starts with a fixed number of elements, then each thread alternates pollMin and
+ * add of a slightly larger key, like the main loop of a parallel shortest-path search.
+ *
+ * Arguments: [initial elements] [operations per thread] [max threads]
+ */
+public class ConcurrentQueueBenchmark {
+    public static void main(String[] args) {
+        int numElements = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int opsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        // Doubles the thread count each round, finishing with exactly maxThreads.
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            run(threads, 1, numElements, opsPerThread);
+            run(threads, MultiQueue.DEFAULT_SHARDS_PER_THREAD * threads, numElements, opsPerThread);
+            run(threads, 4 * threads, numElements, opsPerThread);
+            if (threads >= maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static void run(int numThreads, int numShards, int numElements, int opsPerThread) {
+        IConcurrentPriorityQueue<Long> queue = new MultiQueue<>(numShards);
+        long fill = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < numElements; i++) {
+            fill ^= fill << 13;
+            fill ^= fill >>> 7;
+            fill ^= fill << 17;
+            queue.add((fill >>> 1) % (4L * numElements));
+        }
+
+        AtomicLong checksum = new AtomicLong();
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            long seed = 0x9E3779B97F4A7C15L * (t + 1);
+            threads[t] = new Thread(() -> {
+                long state = seed;
+                long sum = 0;
+                for (int i = 0; i < opsPerThread; i += 2) {
+                    state ^= state << 13;
+                    state ^= state >>> 7;
+                    state ^= state << 17;
+                    Long min = queue.pollMin();
+                    long key = min == null ? 0 : min;
+                    sum += key;
+                    queue.add(key + 1 + (state >>> 1) % 64);
+                }
+                checksum.addAndGet(sum);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double mops = (double) numThreads * opsPerThread / seconds / 1e6;
+        System.out.printf("threads=%-3d shards=%-4d %8.2f Mops/s  (checksum %d)%n",
+                numThreads, numShards, mops, checksum.get());
+    }
+}
@@ -0,0 +1,128 @@
+package benchmarks;
+
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import datastructures.concrete.IntDisjointSet;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures ConcurrentIntDisjointSet by unioning every wall of a side x side GridGenerator maze,
+ * in a random order, from 1 up to N threads, where N defaults to the number of available
+ * processors. Each thread takes an equal slice of the walls. A single-threaded IntDisjointSet
+ * over the same walls is the baseline.
+ *
+ * The default 4096 x 4096 grid has about 33 million walls and needs several gigabytes of heap
+ * to generate; pass a smaller side to try it on a laptop.
+ *
+ * Arguments: [side] [max threads]
+ */
+public class ConcurrentUnionFindBenchmark {
+    private static final int CELL_SIZE = 4;
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        int[] ends = wallEnds(side);
+        int numRooms = side * side;
+        int numWalls = ends.length / 2;
+        System.out.printf("== %d rooms, %d walls ==%n", numRooms, numWalls);
+
+        BenchmarkTimer.time("IntDisjointSet, 1 thread", () -> {
+            IntDisjointSet sets = new IntDisjointSet(numRooms);
+            for (int i = 0; i < numWalls; i++) {
+                sets.union(ends[2 * i], ends[2 * i + 1]);
+            }
+            check(sets.componentCount());
+        });
+
+        // Doubles the thread count each round, finishing with exactly maxThreads.
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            run(threads, numRooms, ends);
+            if (threads >= maxThreads) {
+                break;
+            }
+        }
+    }
+
+    private static void run(int numThreads, int numRooms, int[] ends) {
+        int numWalls = ends.length / 2;
+        ConcurrentIntDisjointSet sets = new ConcurrentIntDisjointSet(numRooms);
+        AtomicLong merges = new AtomicLong();
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int from = (int) ((long) numWalls * t / numThreads);
+            int to = (int) ((long) numWalls * (t + 1) / numThreads);
+            threads[t] = new Thread(() -> {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    if (sets.union(ends[2 * i], ends[2 * i + 1])) {
+                        count++;
+                    }
+                }
+                merges.addAndGet(count);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        check(sets.componentCount());
+        System.out.printf("threads=%-3d %8.2f M unions/s  (%d merges)%n",
+                numThreads, numWalls / seconds / 1e6, merges.get());
+    }
+
+    /**
+     * Returns the room ids at both ends of every wall, two ints per wall, in a random order.
+     * Rooms are numbered row by row, worked out from their centers so no map is needed.
+     */
+    private static int[] wallEnds(int side) {
+        Maze maze = new GridGenerator(side, side).generateBaseMaze(
+                new Rectangle(0, 0, CELL_SIZE * side, CELL_SIZE * side));
+        int[] ends = new int[2 * maze.getWalls().size()];
+        int index = 0;
+        for (Wall wall : maze.getWalls()) {
+            ends[index++] = roomId(wall.getRoom1().getCenter(), side);
+            ends[index++] = roomId(wall.getRoom2().getCenter(), side);
+        }
+
+        Random random = new Random(24);
+        for (int i = ends.length / 2 - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int end1 = ends[2 * i];
+            int end2 = ends[2 * i + 1];
+            ends[2 * i] = ends[2 * j];
+            ends[2 * i + 1] = ends[2 * j + 1];
+            ends[2 * j] = end1;
+            ends[2 * j + 1] = end2;
+        }
+        return ends;
+    }
+
+    private static int roomId(Point center, int side) {
+        return (center.y / CELL_SIZE) * side + center.x / CELL_SIZE;
+    }
+
+    private static void check(int componentCount) {
+        // Every wall of a grid is unioned, so all rooms end up in one set.
+        if (componentCount != 1) {
+            throw new AssertionError("expected one component, found " + componentCount);
+        }
+    }
+}
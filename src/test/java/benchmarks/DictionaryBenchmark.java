@@ -0,0 +1,98 @@
+package benchmarks;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.HashTableStats;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryFactory;
+
+import java.awt.Point;
+
+/**
+ * Compares ChainedHashDictionary with OpenAddressingDictionary on put (with and without
+ * a capacity hint), successful get, failed containsKey and remove. Also prints each table's
+ * HashTableStats after filling it.
+ *
+ * Keys are java.awt.Points laid out on a square lattice, like the room centers
+ * GridGenerator produces. Defaults to 10^4, 10^6 and 10^7 keys; the largest size
+ * needs a big heap (the benchmark task runs with -Xmx8g).
+ */
+public class DictionaryBenchmark {
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 10_000, 1_000_000, 10_000_000)) {
+            Point[] keys = lattice(size);
+            System.out.println("== " + size + " keys ==");
+            run("ChainedHashDictionary", ChainedHashDictionary::withExpectedSize, keys);
+            run("OpenAddressingDictionary", OpenAddressingDictionary::withExpectedSize, keys);
+        }
+    }
+
+    private static void run(String name, IDictionaryFactory factory, Point[] keys) {
+        int rounds = keys.length >= 10_000_000 ? 1 : 3;
+        BenchmarkTimer.time(name + " put", () -> fill(factory, keys, 0), 1, rounds);
+        BenchmarkTimer.time(name + " put (presized)", () -> fill(factory, keys, keys.length), 1, rounds);
+
+        IDictionary<Point, Integer> dict = factory.makeDictionary();
+        HashTableStats stats = enableStats(dict);
+        for (int i = 0; i < keys.length; i++) {
+            dict.put(keys[i], i);
+        }
+        if (stats != null) {
+            System.out.println("  " + stats);
+        }
+        Point missing = new Point(-1, -1);
+        BenchmarkTimer.time(name + " get", () -> {
+            long sum = 0;
+            for (Point key : keys) {
+                sum += dict.get(key);
+            }
+            consume(sum);
+        }, 1, rounds);
+        BenchmarkTimer.time(name + " containsKey (miss)", () -> {
+            int hits = 0;
+            for (Point key : keys) {
+                missing.setLocation(-key.x - 1, key.y);
+                hits += dict.containsKey(missing) ? 1 : 0;
+            }
+            consume(hits);
+        }, 1, rounds);
+        BenchmarkTimer.time(name + " remove", () -> {
+            IDictionary<Point, Integer> copy = fill(factory, keys, 0);
+            for (Point key : keys) {
+                copy.remove(key);
+            }
+        }, 0, 1);
+    }
+
+    private static IDictionary<Point, Integer> fill(IDictionaryFactory factory, Point[] keys, int expectedSize) {
+        IDictionary<Point, Integer> dict = factory.makeDictionary(expectedSize);
+        for (int i = 0; i < keys.length; i++) {
+            dict.put(keys[i], i);
+        }
+        return dict;
+    }
+
+    private static HashTableStats enableStats(IDictionary<?, ?> dict) {
+        if (dict instanceof ChainedHashDictionary) {
+            return ((ChainedHashDictionary<?, ?>) dict).enableStats();
+        } else if (dict instanceof OpenAddressingDictionary) {
+            return ((OpenAddressingDictionary<?, ?>) dict).enableStats();
+        }
+        return null;
+    }
+
+    private static Point[] lattice(int size) {
+        int side = (int) Math.ceil(Math.sqrt(size));
+        Point[] keys = new Point[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = new Point(10 * (i % side), 10 * (i / side));
+        }
+        return keys;
+    }
+
+    private static void consume(long value) {
+        if (value == Long.MIN_VALUE) {
+            System.out.println(value);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package benchmarks;
+
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleIntHeap;
+import datastructures.concrete.Graph;
+import datastructures.concrete.DoubleList;
+import datastructures.concrete.IntList;
+import datastructures.concrete.PairingHeap;
+import datastructures.interfaces.IDoubleIntPriorityQueue;
+import datastructures.interfaces.IPriorityQueue;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.generators.base.BaseMazeGenerator;
+import mazes.generators.base.GridGenerator;
+import mazes.generators.base.VoronoiGenerator;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Random;
+
+/**
+ * Records the priority queue operations Graph.findShortestPathBetween performs between opposite
+ * corners of an uncarved maze, then replays that trace against ArrayHeap and PairingHeap:
+ *
+ * - ArrayHeap, where each decrease is a replace (one map lookup, one percolate);
+ * - PairingHeap, replacing by item, the same way;
+ * - PairingHeap, replacing through the handle kept from insert.
+ *
+ * Every room keeps all its walls, so a Voronoi maze has six to eight neighbors per room and
+ * the trace is dominated by adds and decreases. Grid walls all have the same length, so they
+ * get random weights, as KruskalMazeCarver gives them. Defaults to 10^4 and 10^5 rooms.
+ */
+public class DijkstraTraceBenchmark {
+    private static final int ADD = 0;
+    private static final int DECREASE = 1;
+    private static final int REMOVE_MIN = 2;
+
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 10_000, 100_000)) {
+            int side = (int) Math.sqrt(size);
+            Rectangle box = new Rectangle(0, 0, 20 * side, 20 * side);
+            run("Grid, random wall weights", new GridGenerator(side, side), box, true);
+            run("Voronoi", new VoronoiGenerator(size, 10, 0, 5), box, false);
+        }
+    }
+
+    private static void run(String name, BaseMazeGenerator generator, Rectangle box, boolean randomWeights) {
+        Maze maze = generator.generateBaseMaze(box);
+        if (randomWeights) {
+            // Every grid wall is the same length, which would leave nothing to decrease.
+            Random random = new Random(20);
+            maze.getWalls().forEach(wall -> wall.setDistance(random.nextDouble()));
+        }
+        Graph<Room, Wall> graph = new Graph<>(maze.getRooms(), maze.getWalls());
+        Trace trace = new Trace();
+        graph.findShortestPathBetween(
+                maze.getRoom(new Point(box.x + 1, box.y + 1)),
+                maze.getRoom(new Point(box.x + box.width - 2, box.y + box.height - 2)),
+                trace);
+        System.out.printf("== %s, %d rooms: %d adds, %d decreases, %d removeMins ==%n",
+                name, graph.numVertices(), trace.count(ADD), trace.count(DECREASE), trace.count(REMOVE_MIN));
+
+        int numVertices = graph.numVertices();
+        BenchmarkTimer.time("ArrayHeap replace", () -> replay(trace, new ArrayHeap<>(numVertices), numVertices));
+        BenchmarkTimer.time("PairingHeap replace", () -> replay(trace, new PairingHeap<>(numVertices), numVertices));
+        BenchmarkTimer.time("PairingHeap replace by handle", () -> replayHandles(trace, numVertices));
+    }
+
+    private static void replay(Trace trace, IPriorityQueue<Entry> pq, int numVertices) {
+        Entry[] entries = new Entry[numVertices];
+        for (int i = 0; i < trace.ops.size(); i++) {
+            int id = trace.ids.get(i);
+            switch (trace.ops.get(i)) {
+                case ADD:
+                    entries[id] = new Entry(trace.priorities.get(i));
+                    pq.add(entries[id]);
+                    break;
+                case DECREASE:
+                    Entry entry = new Entry(trace.priorities.get(i));
+                    pq.replace(entries[id], entry);
+                    entries[id] = entry;
+                    break;
+                default:
+                    pq.removeMin();
+            }
+        }
+    }
+
+    private static void replayHandles(Trace trace, int numVertices) {
+        PairingHeap<Entry> pq = new PairingHeap<>(numVertices);
+        @SuppressWarnings("unchecked")
+        PairingHeap.Handle<Entry>[] handles = new PairingHeap.Handle[numVertices];
+        for (int i = 0; i < trace.ops.size(); i++) {
+            int id = trace.ids.get(i);
+            switch (trace.ops.get(i)) {
+                case ADD:
+                    handles[id] = pq.insert(new Entry(trace.priorities.get(i)));
+                    break;
+                case DECREASE:
+                    pq.replace(handles[id], new Entry(trace.priorities.get(i)));
+                    break;
+                default:
+                    pq.removeMin();
+            }
+        }
+    }
+
+    /**
+     * Each entry is its own object, compared by priority but equal only to itself, as Graph's
+     * table entries used to be.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final double priority;
+
+        Entry(double priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Double.compare(this.priority, other.priority);
+        }
+    }
+
+    /**
+     * A queue that passes everything through to a DoubleIntHeap, writing down each operation.
+     */
+    private static class Trace implements IDoubleIntPriorityQueue {
+        private final DoubleIntHeap heap = new DoubleIntHeap();
+        private final IntList ops = new IntList();
+        private final IntList ids = new IntList();
+        private final DoubleList priorities = new DoubleList();
+
+        private void record(int op, int id, double priority) {
+            ops.add(op);
+            ids.add(id);
+            priorities.add(priority);
+        }
+
+        int count(int op) {
+            int count = 0;
+            for (int i = 0; i < ops.size(); i++) {
+                if (ops.get(i) == op) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void add(int id, double priority) {
+            heap.add(id, priority);
+            record(ADD, id, priority);
+        }
+
+        @Override
+        public boolean addOrDecrease(int id, double priority) {
+            if (!heap.contains(id)) {
+                add(id, priority);
+                return true;
+            }
+            if (priority < heap.priorityOf(id)) {
+                decreaseKey(id, priority);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void decreaseKey(int id, double priority) {
+            heap.decreaseKey(id, priority);
+            record(DECREASE, id, priority);
+        }
+
+        @Override
+        public boolean contains(int id) {
+            return heap.contains(id);
+        }
+
+        @Override
+        public double priorityOf(int id) {
+            return heap.priorityOf(id);
+        }
+
+        @Override
+        public int peekMin() {
+            return heap.peekMin();
+        }
+
+        @Override
+        public double peekMinPriority() {
+            return heap.peekMinPriority();
+        }
+
+        @Override
+        public int removeMin() {
+            int id = heap.removeMin();
+            record(REMOVE_MIN, id, 0);
+            return id;
+        }
+
+        @Override
+        public int size() {
+            return heap.size();
+        }
+
+        @Override
+        public void clear() {
+            heap.clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import datastructures.concrete.ArrayDisjointSet;
+import datastructures.concrete.ArrayDisjointSet.LinkStrategy;
+import datastructures.concrete.ArrayDisjointSet.PathStrategy;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.generators.base.BaseMazeGenerator;
+import mazes.generators.base.GridGenerator;
+import mazes.generators.base.VoronoiGenerator;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares every ArrayDisjointSet strategy on the edge order KruskalMazeCarver produces: each
+ * wall gets a random weight, the walls are sorted by it, and rooms are unioned in that order
+ * until one set is left, checking findSet on both ends first as Kruskal's algorithm does.
+ *
+ * Each run makes a set for every room, so the map from rooms to indices is part of the time,
+ * the same for every strategy. Defaults to 10^5 and 10^6 rooms.
+ */
+public class DisjointSetBenchmark {
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 100_000, 1_000_000)) {
+            int side = (int) Math.sqrt(size);
+            Rectangle box = new Rectangle(0, 0, 20 * side, 20 * side);
+            run("Grid", new GridGenerator(side, side), box);
+            run("Voronoi", new VoronoiGenerator(size, 10, 0, 5), box);
+        }
+    }
+
+    private static void run(String name, BaseMazeGenerator generator, Rectangle box) {
+        Maze maze = generator.generateBaseMaze(box);
+        Room[] rooms = new Room[maze.getRooms().size()];
+        int index = 0;
+        for (Room room : maze.getRooms()) {
+            rooms[index++] = room;
+        }
+        Wall[] walls = new Wall[maze.getWalls().size()];
+        index = 0;
+        Random random = new Random(25);
+        for (Wall wall : maze.getWalls()) {
+            wall.setDistance(random.nextDouble());
+            walls[index++] = wall;
+        }
+        Arrays.sort(walls);
+        System.out.printf("== %s, %d rooms, %d walls ==%n", name, rooms.length, walls.length);
+
+        for (PathStrategy pathStrategy : PathStrategy.values()) {
+            for (LinkStrategy linkStrategy : LinkStrategy.values()) {
+                BenchmarkTimer.time(pathStrategy + " + " + linkStrategy,
+                        () -> kruskal(rooms, walls, pathStrategy, linkStrategy));
+            }
+        }
+    }
+
+    private static void kruskal(Room[] rooms, Wall[] walls, PathStrategy pathStrategy, LinkStrategy linkStrategy) {
+        ArrayDisjointSet<Room> sets = new ArrayDisjointSet<>(rooms.length, pathStrategy, linkStrategy);
+        for (Room room : rooms) {
+            sets.makeSet(room);
+        }
+        for (int i = 0; i < walls.length && sets.componentCount() > 1; i++) {
+            Room room1 = walls[i].getRoom1();
+            Room room2 = walls[i].getRoom2();
+            if (sets.findSet(room1) != sets.findSet(room2)) {
+                sets.union(room1, room2);
+            }
+        }
+        if (sets.componentCount() != 1) {
+            throw new AssertionError("expected one component, found " + sets.componentCount());
+        }
+    }
+}
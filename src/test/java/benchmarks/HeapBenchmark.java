@@ -0,0 +1,182 @@
+package benchmarks;
+
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleIntHeap;
+import datastructures.concrete.IndexedArrayHeap;
+import datastructures.concrete.LazyArrayHeap;
+import datastructures.concrete.RadixHeap;
+import datastructures.interfaces.IDoubleIntPriorityQueue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Runs Dijkstra's algorithm over a square grid graph with random edge weights, once with each
+ * priority queue:
+ *
+ * - ArrayHeap of entry objects, relaxing with remove + add (how Graph used to do it);
+ * - IndexedArrayHeap of entry objects, relaxing with decreaseKey;
+ * - LazyArrayHeap of entry objects, pushing a duplicate on each relaxation and skipping stale
+ *   entries as they come out;
+ * - DoubleIntHeap with 2, 4 and 8 children per node, relaxing with addOrDecrease;
+ * - RadixHeap, with the weights rounded to multiples of 10^-6.
+ *
+ * The graph is stored as plain int arrays so that the queue is the only thing that differs.
+ * Defaults to 10^4 and 10^6 vertices.
+ */
+public class HeapBenchmark {
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 10_000, 1_000_000)) {
+            GridGraph graph = new GridGraph((int) Math.sqrt(size), new Random(18));
+            System.out.println("== " + graph.numVertices + " vertices ==");
+            BenchmarkTimer.time("ArrayHeap remove + add", () -> consume(arrayHeap(graph)));
+            BenchmarkTimer.time("IndexedArrayHeap decreaseKey", () -> consume(indexedHeap(graph)));
+            BenchmarkTimer.time("LazyArrayHeap push duplicates", () -> consume(lazyHeap(graph)));
+            for (int arity : new int[] {2, 4, 8}) {
+                BenchmarkTimer.time("DoubleIntHeap (" + arity + "-ary) addOrDecrease",
+                        () -> consume(dijkstra(graph, new DoubleIntHeap(graph.numVertices, arity))));
+            }
+            BenchmarkTimer.time("RadixHeap (scale 10^6) addOrDecrease",
+                    () -> consume(dijkstra(graph, new RadixHeap(graph.numVertices, 1e6))));
+        }
+    }
+
+    private static double arrayHeap(GridGraph graph) {
+        ArrayHeap<Entry> pq = new ArrayHeap<>(graph.numVertices);
+        Entry[] entries = new Entry[graph.numVertices];
+        for (int v = 0; v < graph.numVertices; v++) {
+            entries[v] = new Entry(v, v == 0 ? 0 : Double.POSITIVE_INFINITY);
+            pq.add(entries[v]);
+        }
+        while (!pq.isEmpty()) {
+            Entry curr = pq.removeMin();
+            for (int e = graph.offsets[curr.vertex]; e < graph.offsets[curr.vertex + 1]; e++) {
+                int to = graph.targets[e];
+                double cost = curr.cost + graph.weights[e];
+                if (cost < entries[to].cost) {
+                    pq.remove(entries[to]);
+                    entries[to] = new Entry(to, cost);
+                    pq.add(entries[to]);
+                }
+            }
+        }
+        return entries[graph.numVertices - 1].cost;
+    }
+
+    private static double indexedHeap(GridGraph graph) {
+        IndexedArrayHeap<Entry> pq = new IndexedArrayHeap<>(graph.numVertices);
+        for (int v = 0; v < graph.numVertices; v++) {
+            pq.add(new Entry(v, v == 0 ? 0 : Double.POSITIVE_INFINITY));
+        }
+        while (!pq.isEmpty()) {
+            Entry curr = pq.removeMin();
+            for (int e = graph.offsets[curr.vertex]; e < graph.offsets[curr.vertex + 1]; e++) {
+                int to = graph.targets[e];
+                double cost = curr.cost + graph.weights[e];
+                if (cost < pq.get(to).cost) {
+                    pq.decreaseKey(to, new Entry(to, cost));
+                }
+            }
+        }
+        return pq.get(graph.numVertices - 1).cost;
+    }
+
+    private static double lazyHeap(GridGraph graph) {
+        double[] costs = new double[graph.numVertices];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        LazyArrayHeap<Entry> pq = new LazyArrayHeap<>(graph.numVertices,
+                entry -> entry.cost > costs[entry.vertex]);
+        costs[0] = 0;
+        pq.add(new Entry(0, 0));
+        Entry curr;
+        while ((curr = pq.pollMin()) != null) {
+            for (int e = graph.offsets[curr.vertex]; e < graph.offsets[curr.vertex + 1]; e++) {
+                int to = graph.targets[e];
+                double cost = curr.cost + graph.weights[e];
+                if (cost < costs[to]) {
+                    costs[to] = cost;
+                    pq.add(new Entry(to, cost));
+                }
+            }
+        }
+        return costs[graph.numVertices - 1];
+    }
+
+    private static double dijkstra(GridGraph graph, IDoubleIntPriorityQueue pq) {
+        double[] costs = new double[graph.numVertices];
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        costs[0] = 0;
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int curr = pq.removeMin();
+            for (int e = graph.offsets[curr]; e < graph.offsets[curr + 1]; e++) {
+                int to = graph.targets[e];
+                double cost = costs[curr] + graph.weights[e];
+                if (cost < costs[to]) {
+                    costs[to] = cost;
+                    pq.addOrDecrease(to, cost);
+                }
+            }
+        }
+        return costs[graph.numVertices - 1];
+    }
+
+    private static void consume(double value) {
+        if (value < 0) {
+            System.out.println(value);
+        }
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        private final int vertex;
+        private final double cost;
+
+        Entry(int vertex, double cost) {
+            this.vertex = vertex;
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+
+    /**
+     * A side x side grid, each vertex joined to its four neighbors, in compressed sparse row
+     * form: the edges out of vertex v are offsets[v] until offsets[v + 1].
+     */
+    static class GridGraph {
+        final int numVertices;
+        final int[] offsets;
+        final int[] targets;
+        final double[] weights;
+
+        GridGraph(int side, Random random) {
+            numVertices = side * side;
+            offsets = new int[numVertices + 1];
+            targets = new int[4 * numVertices];
+            weights = new double[4 * numVertices];
+            int edge = 0;
+            for (int v = 0; v < numVertices; v++) {
+                offsets[v] = edge;
+                int row = v / side;
+                int col = v % side;
+                int[] neighbors = {
+                    row > 0 ? v - side : -1,
+                    row < side - 1 ? v + side : -1,
+                    col > 0 ? v - 1 : -1,
+                    col < side - 1 ? v + 1 : -1,
+                };
+                for (int neighbor : neighbors) {
+                    if (neighbor >= 0) {
+                        targets[edge] = neighbor;
+                        weights[edge] = random.nextDouble();
+                        edge++;
+                    }
+                }
+            }
+            offsets[numVertices] = edge;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+
+import java.util.function.Supplier;
+
+/**
+ * Compares DoubleLinkedList, UnrolledLinkedList and DynamicArrayList on the ways Graph and
+ * ImageDrawer use their lists:
+ *
+ * - append, then walk with forEach several times (adjacency lists, allEdges, drawPath);
+ * - append, then walk with an iterator (the for-each loops in Graph);
+ * - insert every item at the front (how shortest paths used to be built);
+ * - get(i) for every i.
+ *
+ * DynamicArrayList is skipped for front inserts past 10^5 items, where it goes quadratic.
+ * Defaults to 10^4 and 10^6 items.
+ */
+public class ListBenchmark {
+    private static final int WALKS = 5;
+
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 10_000, 1_000_000)) {
+            System.out.println("== " + size + " items ==");
+            run("DoubleLinkedList", DoubleLinkedList::new, size);
+            run("UnrolledLinkedList", UnrolledLinkedList::new, size);
+            run("DynamicArrayList", DynamicArrayList::new, size);
+        }
+    }
+
+    private static void run(String name, Supplier<IList<Integer>> factory, int size) {
+        BenchmarkTimer.time(name + " append + forEach", () -> {
+            IList<Integer> list = fill(factory, size);
+            long sum = 0;
+            for (int i = 0; i < WALKS; i++) {
+                long[] total = {0};
+                list.forEach(item -> total[0] += item);
+                sum += total[0];
+            }
+            consume(sum);
+        });
+        BenchmarkTimer.time(name + " append + iterator", () -> {
+            IList<Integer> list = fill(factory, size);
+            long sum = 0;
+            for (int i = 0; i < WALKS; i++) {
+                for (int item : list) {
+                    sum += item;
+                }
+            }
+            consume(sum);
+        });
+        if (size <= 100_000 || !(factory.get() instanceof DynamicArrayList)) {
+            BenchmarkTimer.time(name + " insert(0, ...)", () -> {
+                IList<Integer> list = factory.get();
+                for (int i = 0; i < size; i++) {
+                    list.insert(0, i);
+                }
+                consume(list.size());
+            });
+        }
+        IList<Integer> list = fill(factory, size);
+        BenchmarkTimer.time(name + " get(i) sweep", () -> {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += list.get(i);
+            }
+            consume(sum);
+        });
+    }
+
+    private static IList<Integer> fill(Supplier<IList<Integer>> factory, int size) {
+        IList<Integer> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static void consume(long value) {
+        if (value == Long.MIN_VALUE) {
+            System.out.println(value);
+        }
+    }
+}
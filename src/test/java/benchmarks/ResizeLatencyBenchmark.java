@@ -0,0 +1,36 @@
+package benchmarks;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+
+/**
+ * Reports the slowest single put while filling a ChainedHashDictionary, with and without
+ * incremental resizing. The all-at-once mode should show one very slow put per doubling;
+ * the incremental mode should not.
+ *
+ * Garbage collection pauses land in the same measurements, so run this with a large fixed heap
+ * (e.g. -Xms6g -Xmx6g) and compare the best rounds.
+ */
+public class ResizeLatencyBenchmark {
+    public static void main(String[] args) {
+        for (int size : BenchmarkTimer.sizes(args, 1_000_000, 4_000_000)) {
+            System.out.println("== " + size + " keys ==");
+            for (int round = 0; round < 3; round++) {
+                report("all-at-once", new ChainedHashDictionary<>(3.0, false), size);
+                report("incremental", new ChainedHashDictionary<>(3.0, true), size);
+            }
+        }
+    }
+
+    private static void report(String name, IDictionary<Integer, Integer> dict, int size) {
+        long worst = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            long before = System.nanoTime();
+            dict.put(i, i);
+            worst = Math.max(worst, System.nanoTime() - before);
+        }
+        long total = System.nanoTime() - start;
+        System.out.printf("%-12s total %10.2f ms   worst put %10.3f ms%n", name, total / 1e6, worst / 1e6);
+    }
+}
@@ -1,10 +1,15 @@
 package datastructures;
 
 import datastructures.concrete.ArrayDisjointSet;
+import datastructures.concrete.ArrayDisjointSet.LinkStrategy;
+import datastructures.concrete.ArrayDisjointSet.PathStrategy;
+import datastructures.concrete.IntDisjointSet;
 import datastructures.interfaces.IDisjointSet;
 import misc.BaseTest;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -202,4 +207,94 @@ public class TestArrayDisjointSet extends BaseTest {
         forest.union("a", "f");
         assertEquals(1, forest.findSet("a"));
     }
+
+    @Test(timeout = SECOND)
+    public void testUnionSameSetTwice() {
+        String[] items = new String[]{"a", "b", "c"};
+        IDisjointSet<String> forest = this.createForest(items);
+
+        forest.union("a", "b");
+        forest.union("b", "a");
+        forest.union("a", "a");
+        check(forest, items, new int[]{0, 0, 2});
+
+        forest.union("c", "a");
+        check(forest, items, new int[]{0, 0, 0});
+    }
+
+    @Test(timeout = SECOND)
+    public void testSizeOfAndComponentCount() {
+        ArrayDisjointSet<String> forest = new ArrayDisjointSet<>();
+        String[] items = new String[]{"a", "b", "c", "d", "e"};
+        for (String item : items) {
+            forest.makeSet(item);
+        }
+        assertEquals(5, forest.componentCount());
+        assertEquals(1, forest.sizeOf("a"));
+
+        forest.union("a", "b");
+        forest.union("c", "b");
+        forest.union("a", "c");
+        assertEquals(3, forest.componentCount());
+        assertEquals(3, forest.sizeOf("c"));
+        assertEquals(1, forest.sizeOf("e"));
+
+        try {
+            forest.sizeOf("f");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testUnionBySizeKeepsLargerSet() {
+        ArrayDisjointSet<String> forest = new ArrayDisjointSet<>(
+                10, PathStrategy.HALVING, LinkStrategy.SIZE);
+        String[] items = new String[]{"a", "b", "c", "d", "e"};
+        for (String item : items) {
+            forest.makeSet(item);
+        }
+        forest.union("a", "b");
+        forest.union("c", "d");
+        forest.union("c", "e");
+        // By rank the two trees tie and "a" would win; by size "c" has three items to two.
+        forest.union("a", "c");
+        check(forest, items, new int[]{2, 2, 2, 2, 2});
+        assertEquals(5, forest.sizeOf("a"));
+    }
+
+    @Test(timeout = 4 * SECOND)
+    public void testEveryStrategyMatchesIntDisjointSet() {
+        int numItems = 2000;
+        for (PathStrategy pathStrategy : PathStrategy.values()) {
+            for (LinkStrategy linkStrategy : LinkStrategy.values()) {
+                ArrayDisjointSet<Integer> forest = new ArrayDisjointSet<>(10, pathStrategy, linkStrategy);
+                IntDisjointSet expected = new IntDisjointSet(numItems);
+                int[] counts = new int[numItems];
+                for (int i = 0; i < numItems; i++) {
+                    forest.makeSet(i);
+                }
+
+                Random random = new Random(25);
+                for (int i = 0; i < 3 * numItems; i++) {
+                    int a = random.nextInt(numItems);
+                    int b = random.nextInt(numItems);
+                    forest.union(a, b);
+                    expected.union(a, b);
+                    int c = random.nextInt(numItems);
+                    int d = random.nextInt(numItems);
+                    assertEquals(expected.connected(c, d), forest.findSet(c) == forest.findSet(d));
+                }
+
+                assertEquals(expected.componentCount(), forest.componentCount());
+                for (int i = 0; i < numItems; i++) {
+                    counts[expected.find(i)]++;
+                }
+                for (int i = 0; i < numItems; i++) {
+                    assertEquals(counts[expected.find(i)], forest.sizeOf(i));
+                }
+            }
+        }
+    }
 }
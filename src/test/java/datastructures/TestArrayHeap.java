@@ -1,13 +1,18 @@
 package datastructures;
 
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import misc.BaseTest;
+import misc.exceptions.InvalidElementException;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * See spec for details on what kinds of tests this class should include.
@@ -121,4 +126,61 @@ public class TestArrayHeap extends BaseTest {
         return getField(heap, "heap", Comparable[].class);
     }
 
+    @Test(timeout=SECOND)
+    public void testAddAllIntoEmptyHeap() {
+        IPriorityQueue<Integer> heap = new ArrayHeap<>(10);
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 999; i >= 0; i--) {
+            items.add((i * 37) % 1000);
+        }
+
+        heap.addAll(items);
+        assertEquals(1000, heap.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(heap.contains(i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllIntoNonEmptyHeap() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 100; i += 2) {
+            heap.add(i);
+        }
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 1; i < 20; i += 2) {
+            items.add(i);
+        }
+
+        heap.addAll(items);
+        assertEquals(60, heap.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllDuplicateKeepsEarlierItems() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        heap.add(5);
+        IList<Integer> items = new DoubleLinkedList<>();
+        items.add(3);
+        items.add(1);
+        items.add(5);
+        items.add(0);
+
+        try {
+            heap.addAll(items);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(3, heap.size());
+        assertEquals(1, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+        assertEquals(5, heap.removeMin());
+    }
 }
@@ -9,6 +9,7 @@ import org.junit.runners.MethodSorters;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -388,4 +389,85 @@ public class TestChainedHashSet extends BaseTest {
             assertFalse(set.contains(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testForEachVisitsEveryItem() {
+        ISet<Integer> set = new ChainedHashSet<>();
+        for (int i = 0; i < 500; i++) {
+            set.add(i);
+        }
+
+        ISet<Integer> seen = new ChainedHashSet<>();
+        set.forEach(item -> {
+            assertFalse(seen.contains(item));
+            seen.add(item);
+        });
+        assertEquals(500, seen.size());
+    }
+
+    protected ISet<Integer> makeRange(int from, int to) {
+        ISet<Integer> set = new ChainedHashSet<>();
+        for (int i = from; i < to; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebraViews() {
+        ISet<Integer> first = this.makeRange(0, 10);
+        ISet<Integer> second = this.makeRange(5, 15);
+
+        ISet<Integer> union = first.union(second);
+        ISet<Integer> difference = first.difference(second);
+        ISet<Integer> intersection = first.intersection(second);
+        this.assertSetMatches(new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14}, union);
+        this.assertSetMatches(new Integer[] {0, 1, 2, 3, 4}, difference);
+        this.assertSetMatches(new Integer[] {5, 6, 7, 8, 9}, intersection);
+        assertFalse(difference.contains(7));
+        assertFalse(intersection.contains(12));
+
+        int[] count = {0};
+        union.forEach(item -> count[0]++);
+        assertEquals(15, count[0]);
+
+        // Views follow changes to the sets they were made from.
+        second.remove(7);
+        assertTrue(difference.contains(7));
+        assertFalse(intersection.contains(7));
+        assertEquals(6, difference.size());
+
+        try {
+            difference.add(100);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsInPlace() {
+        ISet<Integer> set = this.makeRange(0, 10);
+        set.addAll(this.makeRange(5, 15));
+        this.assertSetMatches(new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14}, set);
+
+        set.removeAll(this.makeRange(10, 20));
+        this.assertSetMatches(new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, set);
+
+        set.retainAll(this.makeRange(-5, 3));
+        this.assertSetMatches(new Integer[] {0, 1, 2}, set);
+
+        set.removeAll(this.makeRange(0, 100));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testStreams() {
+        ISet<Integer> set = this.makeRange(0, 10000);
+        set.add(null);
+
+        assertEquals(10001L, set.stream().count());
+        assertEquals(49995000L, set.parallelStream().filter(i -> i != null).mapToLong(i -> i).sum());
+        assertEquals(10001, set.parallelStream().collect(Collectors.toSet()).size());
+    }
 }
@@ -0,0 +1,87 @@
+package datastructures;
+
+import datastructures.concrete.ConcurrentHashSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentHashSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicOperations() {
+        ISet<String> set = new ConcurrentHashSet<>();
+        set.add("a");
+        set.add("b");
+        set.add("a");
+        set.add(null);
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("a"));
+        assertTrue(set.contains(null));
+
+        set.remove("a");
+        assertFalse(set.contains("a"));
+
+        int count = 0;
+        for (String item : set) {
+            assertTrue(item == null || item.equals("b"));
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveMissingThrows() {
+        ISet<String> set = new ConcurrentHashSet<>();
+        try {
+            set.remove("a");
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testAddIfAbsentHasOneWinner() throws InterruptedException {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+        AtomicInteger wins = new AtomicInteger(0);
+        int numItems = 20000;
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < numItems; i++) {
+                    if (set.addIfAbsent(i)) {
+                        wins.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(numItems, wins.get());
+        assertEquals(numItems, set.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStream() {
+        ISet<Integer> set = new ConcurrentHashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            set.add(i);
+        }
+        assertEquals(49995000L, set.parallelStream().mapToLong(i -> i).sum());
+        assertEquals(10000L, set.parallelStream().distinct().count());
+    }
+}
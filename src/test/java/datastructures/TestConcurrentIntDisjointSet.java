@@ -0,0 +1,151 @@
+package datastructures;
+
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import datastructures.concrete.IntDisjointSet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingleThreaded() {
+        ConcurrentIntDisjointSet sets = new ConcurrentIntDisjointSet(6);
+        assertEquals(6, sets.size());
+        assertTrue(sets.union(0, 1));
+        assertTrue(sets.union(2, 3));
+        assertFalse(sets.union(1, 0));
+        assertTrue(sets.connected(0, 1));
+        assertFalse(sets.connected(1, 2));
+        assertTrue(sets.union(1, 3));
+        assertTrue(sets.connected(0, 2));
+        assertEquals(sets.find(0), sets.find(3));
+        assertEquals(3, sets.componentCount());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalIds() {
+        ConcurrentIntDisjointSet sets = new ConcurrentIntDisjointSet(3);
+        try {
+            sets.find(3);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            sets.connected(0, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongChainDoesNotOverflow() {
+        int n = 1_000_000;
+        ConcurrentIntDisjointSet sets = new ConcurrentIntDisjointSet(n);
+        for (int i = 1; i < n; i++) {
+            sets.union(i - 1, i);
+        }
+        assertEquals(1, sets.componentCount());
+        assertTrue(sets.connected(0, n - 1));
+    }
+
+    /**
+     * Runs several phases in which four threads call union and connected at once, then checks
+     * every result against what a linearizable disjoint set could have returned:
+     *
+     * - connected must be true for ids joined before the phase started, and false for ids
+     *   still apart when it ended;
+     * - exactly one union call may claim each merge, so the unions that returned true must
+     *   form a forest with the same components as all the unions together.
+     */
+    @Test(timeout=20 * SECOND)
+    public void testConcurrentResultsAreLinearizable() throws InterruptedException {
+        int n = 3000;
+        int numThreads = 4;
+        int numPhases = 20;
+        int unionsPerThread = 60;
+        int queriesPerThread = 480;
+
+        ConcurrentIntDisjointSet sets = new ConcurrentIntDisjointSet(n);
+        IntDisjointSet reference = new IntDisjointSet(n);
+        IntDisjointSet claimed = new IntDisjointSet(n);
+        Random random = new Random(24);
+
+        for (int phase = 0; phase < numPhases; phase++) {
+            int[][] unionPairs = new int[numThreads][2 * unionsPerThread];
+            int[][] queryPairs = new int[numThreads][2 * queriesPerThread];
+            boolean[][] unionResults = new boolean[numThreads][unionsPerThread];
+            boolean[][] queryResults = new boolean[numThreads][queriesPerThread];
+            for (int t = 0; t < numThreads; t++) {
+                for (int i = 0; i < unionPairs[t].length; i++) {
+                    unionPairs[t][i] = random.nextInt(n);
+                }
+                for (int i = 0; i < queryPairs[t].length; i++) {
+                    queryPairs[t][i] = random.nextInt(n);
+                }
+            }
+            boolean[][] connectedBefore = new boolean[numThreads][queriesPerThread];
+            for (int t = 0; t < numThreads; t++) {
+                for (int i = 0; i < queriesPerThread; i++) {
+                    connectedBefore[t][i] = reference.connected(queryPairs[t][2 * i], queryPairs[t][2 * i + 1]);
+                }
+            }
+
+            Thread[] threads = new Thread[numThreads];
+            for (int t = 0; t < numThreads; t++) {
+                int index = t;
+                threads[t] = new Thread(() -> {
+                    // Interleave the two kinds of calls so they overlap with other threads' unions.
+                    for (int i = 0; i < queriesPerThread; i++) {
+                        if (i % (queriesPerThread / unionsPerThread) == 0) {
+                            int u = i / (queriesPerThread / unionsPerThread);
+                            unionResults[index][u] = sets.union(unionPairs[index][2 * u], unionPairs[index][2 * u + 1]);
+                        }
+                        queryResults[index][i] = sets.connected(queryPairs[index][2 * i], queryPairs[index][2 * i + 1]);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            for (int t = 0; t < numThreads; t++) {
+                for (int u = 0; u < unionsPerThread; u++) {
+                    int a = unionPairs[t][2 * u];
+                    int b = unionPairs[t][2 * u + 1];
+                    reference.union(a, b);
+                    if (unionResults[t][u]) {
+                        assertTrue("two unions claimed the same merge", claimed.union(a, b));
+                    }
+                }
+            }
+            for (int t = 0; t < numThreads; t++) {
+                for (int i = 0; i < queriesPerThread; i++) {
+                    boolean connectedAfter = reference.connected(queryPairs[t][2 * i], queryPairs[t][2 * i + 1]);
+                    if (connectedBefore[t][i]) {
+                        assertTrue(queryResults[t][i]);
+                    }
+                    if (!connectedAfter) {
+                        assertFalse(queryResults[t][i]);
+                    }
+                }
+            }
+            assertEquals(reference.componentCount(), claimed.componentCount());
+            assertEquals(reference.componentCount(), sets.componentCount());
+        }
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(reference.connected(0, i), sets.connected(0, i));
+        }
+    }
+}
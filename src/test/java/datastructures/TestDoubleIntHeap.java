@@ -0,0 +1,165 @@
+package datastructures;
+
+import datastructures.concrete.DoubleIntHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDoubleIntHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicOrdering() {
+        DoubleIntHeap heap = new DoubleIntHeap(4);
+        heap.add(0, 3.5);
+        heap.add(1, 1.0);
+        heap.add(2, 2.25);
+        heap.add(7, 0.5);
+        assertEquals(4, heap.size());
+        assertEquals(7, heap.peekMin());
+        assertEquals(0.5, heap.peekMinPriority(), 0);
+        assertEquals(7, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseAndUpdate() {
+        DoubleIntHeap heap = new DoubleIntHeap();
+        for (int i = 0; i < 10; i++) {
+            heap.add(i, i);
+        }
+        heap.decreaseKey(9, -1);
+        heap.update(0, 100);
+        assertEquals(-1, heap.priorityOf(9), 0);
+        assertEquals(9, heap.removeMin());
+        for (int i = 1; i < 9; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertEquals(0, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddOrDecrease() {
+        DoubleIntHeap heap = new DoubleIntHeap();
+        assertTrue(heap.addOrDecrease(3, 5));
+        assertFalse(heap.addOrDecrease(3, 6));
+        assertTrue(heap.addOrDecrease(3, 2));
+        assertEquals(1, heap.size());
+        assertEquals(2, heap.priorityOf(3), 0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveAndClear() {
+        DoubleIntHeap heap = new DoubleIntHeap(2, 2);
+        for (int i = 0; i < 50; i++) {
+            heap.add(i, 50 - i);
+        }
+        for (int i = 0; i < 50; i += 3) {
+            heap.remove(i);
+            assertFalse(heap.contains(i));
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            double priority = heap.peekMinPriority();
+            assertTrue(priority >= last);
+            last = priority;
+            heap.removeMin();
+            count++;
+        }
+        assertEquals(33, count);
+
+        heap.add(5, 1);
+        heap.add(6, 2);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(5));
+        heap.add(5, 1);
+        assertEquals(5, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        DoubleIntHeap heap = new DoubleIntHeap();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(-1, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(0, Double.NaN);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.add(0, 1);
+        try {
+            heap.add(0, 2);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(0, 2);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.priorityOf(1);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new DoubleIntHeap(10, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsEveryArity() {
+        for (int arity = 2; arity <= 8; arity++) {
+            DoubleIntHeap heap = new DoubleIntHeap(1, arity);
+            Random random = new Random(arity);
+            int n = 1000;
+            double[] priorities = new double[n];
+            for (int i = 0; i < n; i++) {
+                priorities[i] = random.nextDouble();
+                heap.add(i, priorities[i]);
+            }
+            for (int i = 0; i < n; i++) {
+                int id = random.nextInt(n);
+                priorities[id] = random.nextDouble();
+                heap.update(id, priorities[id]);
+            }
+            double[] sorted = priorities.clone();
+            Arrays.sort(sorted);
+            for (double expected : sorted) {
+                int id = heap.removeMin();
+                assertEquals(expected, priorities[id], 0);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package datastructures;
 
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
 import datastructures.interfaces.IList;
 import misc.BaseTest;
 import misc.exceptions.EmptyContainerException;
@@ -8,9 +9,13 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -718,4 +723,186 @@ public class TestDoubleLinkedList extends BaseTest {
         list.insert(0, new Wrapper<>(4));
         assertEquals(0, list.indexOf(new Wrapper<>(4)));
     }
+
+    @Test(timeout=SECOND)
+    public void testForEachVisitsInOrder() {
+        IList<String> list = this.makeBasicList();
+        IList<String> seen = new DoubleLinkedList<>();
+        list.forEach(seen::add);
+        this.assertListValidAndMatches(new String[] {"a", "b", "c"}, seen);
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testIndexedWalkIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 200000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        // Each get(...) starts from the node the previous one landed on.
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+        for (int i = cap / 2; i < cap / 2 + 1000; i++) {
+            list.set(i, -i);
+            list.insert(i + 1, i);
+            list.delete(i + 1);
+        }
+        for (int i = cap - 1; i >= 0; i--) {
+            int expected = i >= cap / 2 && i < cap / 2 + 1000 ? -i : i;
+            assertEquals(expected, (int) list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomEditsMatchArrayList() {
+        Random rand = new Random(373);
+        IList<Integer> list = new DoubleLinkedList<>();
+        IList<Integer> expected = new DynamicArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int op = rand.nextInt(4);
+            if (op == 0 || expected.isEmpty()) {
+                int index = rand.nextInt(expected.size() + 1);
+                list.insert(index, i);
+                expected.insert(index, i);
+            } else if (op == 1) {
+                int index = rand.nextInt(expected.size());
+                assertEquals(expected.delete(index), list.delete(index));
+            } else if (op == 2) {
+                int index = rand.nextInt(expected.size());
+                list.set(index, i);
+                expected.set(index, i);
+            } else {
+                int index = rand.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        Integer[] items = new Integer[expected.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = expected.get(i);
+        }
+        this.assertListValidAndMatches(items, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorEditsInPlace() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        ListIterator<String> iter = list.listIterator();
+        iter.add("x");
+        assertEquals("a", iter.next());
+        iter.remove();
+        assertEquals("b", iter.next());
+        iter.set("B");
+        iter.add("y");
+        assertEquals(3, iter.nextIndex());
+        assertEquals("c", iter.next());
+        assertFalse(iter.hasNext());
+        iter.add("z");
+        this.assertListValidAndMatches(new String[] {"x", "B", "y", "c", "z"}, list);
+
+        assertEquals("z", iter.previous());
+        assertEquals("c", iter.previous());
+        iter.remove();
+        assertEquals("y", iter.previous());
+        iter.set("Y");
+        assertEquals(2, iter.nextIndex());
+        this.assertListValidAndMatches(new String[] {"x", "B", "Y", "z"}, list);
+
+        try {
+            iter.add("w");
+            iter.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        this.assertListValidAndMatches(new String[] {"x", "B", "w", "Y", "z"}, list);
+        assertEquals("w", list.get(2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliceAndConcat() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        list.add("d");
+
+        DoubleLinkedList<String> middle = new DoubleLinkedList<>();
+        middle.add("b");
+        middle.add("c");
+        list.splice(1, middle);
+        this.assertListValidAndMatches(new String[] {"a", "b", "c", "d"}, list);
+        this.assertListValidAndMatches(new String[] {}, middle);
+
+        DoubleLinkedList<String> end = new DoubleLinkedList<>();
+        end.add("e");
+        list.concat(end);
+        list.concat(new DoubleLinkedList<>());
+        DoubleLinkedList<String> front = new DoubleLinkedList<>();
+        front.add("_");
+        list.splice(0, front);
+        this.assertListValidAndMatches(new String[] {"_", "a", "b", "c", "d", "e"}, list);
+
+        DoubleLinkedList<String> empty = new DoubleLinkedList<>();
+        empty.concat(list);
+        this.assertListValidAndMatches(new String[] {"_", "a", "b", "c", "d", "e"}, empty);
+        this.assertListValidAndMatches(new String[] {}, list);
+
+        try {
+            empty.concat(empty);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInOrder() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 5000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals((long) cap, spliterator.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        splitInOrder(spliterator, seen);
+        assertEquals(cap, seen.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) seen.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStream() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        assertEquals((long) cap * (cap - 1) / 2, list.parallelStream().mapToLong(i -> i).sum());
+        assertEquals(list.get(cap - 1), list.parallelStream().reduce((a, b) -> b).get());
+        assertEquals(0L, new DoubleLinkedList<>().stream().count());
+    }
+
+    /**
+     * Splits the given spliterator as far as it will go, and appends what each piece hands
+     * out to 'seen', prefixes first.
+     */
+    private static <T> void splitInOrder(Spliterator<T> spliterator, List<T> seen) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitInOrder(prefix, seen);
+            splitInOrder(spliterator, seen);
+            return;
+        }
+        while (spliterator.tryAdvance(seen::add)) {
+            // Keep going until the piece runs dry.
+        }
+    }
 }
@@ -0,0 +1,220 @@
+package datastructures;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDynamicArrayList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new DynamicArrayList<>(1);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i));
+            assertTrue(iter.hasNext());
+            assertEquals(expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddGetAndRemove() {
+        IList<String> list = this.makeBasicList();
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+
+        assertEquals("c", list.remove());
+        assertEquals("b", list.remove());
+        this.assertListMatches(new String[] {"a"}, list);
+        assertEquals("a", list.remove());
+        this.assertListMatches(new String[] {}, list);
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetInsertAndDelete() {
+        IList<String> list = this.makeBasicList();
+        list.set(1, "B");
+        list.insert(0, "x");
+        list.insert(2, "y");
+        list.insert(list.size(), "z");
+        this.assertListMatches(new String[] {"x", "a", "y", "B", "c", "z"}, list);
+
+        assertEquals("x", list.delete(0));
+        assertEquals("B", list.delete(2));
+        assertEquals("z", list.delete(list.size() - 1));
+        this.assertListMatches(new String[] {"a", "y", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = this.makeBasicList();
+        for (int index : new int[] {-1, 3}) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        for (int index : new int[] {-1, 3}) {
+            try {
+                list.set(index, "q");
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        for (int index : new int[] {-1, 4}) {
+            try {
+                list.insert(index, "q");
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        for (int index : new int[] {-1, 3}) {
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContains() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        list.add("a");
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("d"));
+        assertTrue(list.contains("c"));
+        assertFalse(list.contains("d"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorOnEmptyList() {
+        IList<String> list = new DynamicArrayList<>(0);
+        Iterator<String> iter = list.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTrimAndGrow() {
+        DynamicArrayList<Integer> list = new DynamicArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.trimToSize();
+        assertEquals(100, ((Object[]) getField(list, "items")).length);
+
+        list.add(100);
+        list.trimToSize();
+        list.ensureCapacity(500);
+        assertEquals(500, ((Object[]) getField(list, "items")).length);
+        for (int i = 0; i <= 100; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testIndexedAccessIsEfficient() {
+        IList<Integer> list = new DynamicArrayList<>();
+        int cap = 5000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < cap; i++) {
+            sum += list.get(i);
+        }
+        assertEquals((long) cap * (cap - 1) / 2, sum);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInOrder() {
+        IList<Integer> list = new DynamicArrayList<>();
+        int cap = 5000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals((long) cap, spliterator.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        splitInOrder(spliterator, seen);
+        assertEquals(cap, seen.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) seen.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStream() {
+        IList<Integer> list = new DynamicArrayList<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        assertEquals((long) cap * (cap - 1) / 2, list.parallelStream().mapToLong(i -> i).sum());
+        assertEquals(list.get(cap - 1), list.parallelStream().reduce((a, b) -> b).get());
+        assertEquals(0L, new DynamicArrayList<>().stream().count());
+    }
+
+    /**
+     * Splits the given spliterator as far as it will go, and appends what each piece hands
+     * out to 'seen', prefixes first.
+     */
+    private static <T> void splitInOrder(Spliterator<T> spliterator, List<T> seen) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitInOrder(prefix, seen);
+            splitInOrder(spliterator, seen);
+            return;
+        }
+        while (spliterator.tryAdvance(seen::add)) {
+            // Keep going until the piece runs dry.
+        }
+    }
+}
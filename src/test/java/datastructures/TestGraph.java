@@ -479,4 +479,33 @@ public class TestGraph extends BaseTest {
         assertTrue(result.contains(edges.get(4)));
         assertTrue(result.contains(edges.get(7)));
     }
+
+    @Test(timeout=SECOND)
+    public void testShortestPathWithFractionalWeights() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge> edges = new DoubleLinkedList<>();
+        vertices.add("a");
+        vertices.add("b");
+        vertices.add("c");
+        vertices.add("d");
+        edges.add(edge("a", "b", 0.25));
+        edges.add(edge("b", "c", 0.5));
+        edges.add(edge("a", "c", 1.0));
+        edges.add(edge("c", "d", 0.125));
+        Graph<String, SimpleEdge> graph = new Graph<>(vertices, edges);
+
+        assertShortestPathMatches(graph, 0.875, new String[] {"a", "b", "c", "d"});
+
+        IList<SimpleEdge> quantized = graph.findShortestPathBetween("a", "d", 1000);
+        assertEquals(3, quantized.size());
+        assertEquals(edges.get(0), quantized.get(0));
+        assertEquals(edges.get(3), quantized.get(2));
+
+        try {
+            graph.findShortestPathBetween("a", "d", 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
 }
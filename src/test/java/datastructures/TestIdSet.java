@@ -0,0 +1,192 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IdSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIdSet extends BaseTest {
+    protected IdSet<Integer> makeSet(int... items) {
+        IdSet<Integer> set = new IdSet<>(Integer::intValue, 4);
+        for (int item : items) {
+            set.add(item);
+        }
+        return set;
+    }
+
+    protected void assertSetMatches(int[] expectedItems, IdSet<Integer> actual) {
+        assertEquals(expectedItems.length, actual.size());
+        assertEquals(expectedItems.length == 0, actual.isEmpty());
+
+        // Iteration is in id order.
+        Iterator<Integer> iter = actual.iterator();
+        for (int item : expectedItems) {
+            assertTrue(actual.contains(item));
+            assertTrue(iter.hasNext());
+            assertEquals(item, (int) iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddContainsRemove() {
+        IdSet<Integer> set = this.makeSet(3, 1, 3, 200);
+        this.assertSetMatches(new int[] {1, 3, 200}, set);
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(1000));
+
+        set.remove(3);
+        this.assertSetMatches(new int[] {1, 200}, set);
+        try {
+            set.remove(3);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeIdThrowsException() {
+        IdSet<Integer> set = this.makeSet();
+        assertFalse(set.contains(-1));
+        try {
+            set.add(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorOnEmptyAndSparseSets() {
+        IdSet<Integer> set = this.makeSet();
+        Iterator<Integer> iter = set.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+
+        set = this.makeSet(63, 64, 500, 0);
+        this.assertSetMatches(new int[] {0, 63, 64, 500}, set);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebra() {
+        IdSet<Integer> a = this.makeSet(0, 5, 63, 64, 130);
+        IdSet<Integer> b = this.makeSet(5, 64, 65, 300);
+
+        this.assertSetMatches(new int[] {0, 5, 63, 64, 65, 130, 300}, a.union(b));
+        this.assertSetMatches(new int[] {0, 63, 130}, a.difference(b));
+        this.assertSetMatches(new int[] {65, 300}, b.difference(a));
+        this.assertSetMatches(new int[] {5, 64}, a.intersection(b));
+        this.assertSetMatches(new int[] {5, 64}, b.intersection(a));
+
+        // The operands are left alone.
+        this.assertSetMatches(new int[] {0, 5, 63, 64, 130}, a);
+        this.assertSetMatches(new int[] {5, 64, 65, 300}, b);
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyCopySharesIds() {
+        IdSet<Integer> all = this.makeSet(1, 2, 3, 4);
+        IdSet<Integer> some = all.emptyCopy();
+        assertTrue(some.isEmpty());
+        some.add(2);
+        some.add(4);
+
+        IdSet<Integer> rest = all.difference(some);
+        this.assertSetMatches(new int[] {1, 3}, rest);
+        this.assertSetMatches(new int[] {1, 2, 3, 4}, rest.union(some));
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachMatchesIterator() {
+        IdSet<Integer> set = this.makeSet();
+        for (int i = 0; i < 1000; i += 7) {
+            set.add(i);
+        }
+        int[] next = {0};
+        set.forEach(item -> {
+            assertEquals(next[0], (int) item);
+            next[0] += 7;
+        });
+        assertEquals(1001, next[0]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsInPlace() {
+        IdSet<Integer> set = this.makeSet(1, 2, 70);
+        set.addAll(this.makeSet(2, 3, 200));
+        this.assertSetMatches(new int[] {1, 2, 3, 70, 200}, set);
+
+        set.removeAll(this.makeSet(1, 200, 300));
+        this.assertSetMatches(new int[] {2, 3, 70}, set);
+
+        set.retainAll(this.makeSet(3, 70));
+        this.assertSetMatches(new int[] {3, 70}, set);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebraWithOtherSets() {
+        IdSet<Integer> set = this.makeSet(1, 2, 3, 4, 100);
+        ISet<Integer> other = new ChainedHashSet<>();
+        other.add(2);
+        other.add(100);
+        other.add(500);
+
+        this.assertSetMatches(new int[] {1, 3, 4}, set.difference(other));
+        this.assertSetMatches(new int[] {2, 100}, set.intersection(other));
+        this.assertSetMatches(new int[] {1, 2, 3, 4, 100, 500}, set.union(other));
+
+        set.removeAll(other);
+        this.assertSetMatches(new int[] {1, 3, 4}, set);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInIdOrder() {
+        IdSet<Integer> set = new IdSet<>(i -> i);
+        for (int i = 0; i < 5000; i += 3) {
+            set.add(i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        splitInOrder(set.spliterator(), seen);
+        assertEquals(set.size(), seen.size());
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(i * 3, (int) seen.get(i));
+        }
+        assertEquals((long) set.size(), set.parallelStream().distinct().count());
+    }
+
+    /**
+     * Splits the given spliterator as far as it will go, and appends what each piece hands
+     * out to 'seen', prefixes first.
+     */
+    private static <T> void splitInOrder(Spliterator<T> spliterator, List<T> seen) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitInOrder(prefix, seen);
+            splitInOrder(spliterator, seen);
+            return;
+        }
+        spliterator.forEachRemaining(seen::add);
+    }
+}
@@ -0,0 +1,166 @@
+package datastructures;
+
+import datastructures.concrete.IndexedArrayHeap;
+import datastructures.interfaces.IIndexedPriorityQueue;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIndexedArrayHeap extends BaseTest {
+    protected <T extends Comparable<T>> IIndexedPriorityQueue<T> makeInstance() {
+        return new IndexedArrayHeap<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testHandlesAreAssignedInOrder() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, heap.add(100 - i));
+        }
+        assertEquals(10, heap.size());
+        assertEquals(91, heap.peekMin());
+        assertEquals(9, heap.removeMinHandle());
+        assertFalse(heap.contains(9));
+        assertTrue(heap.contains(0));
+        assertEquals(91, heap.get(9));
+        assertEquals(10, heap.add(50));
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 1; i <= 5; i++) {
+            heap.add(i * 10);
+        }
+        heap.decreaseKey(3, 5);
+        assertEquals(5, heap.get(3));
+        assertEquals(5, heap.removeMin());
+        assertEquals(10, heap.removeMin());
+        assertEquals(20, heap.removeMin());
+        assertEquals(30, heap.removeMin());
+        assertEquals(50, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdateBothDirections() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 5; i++) {
+            heap.add(i * 2);
+        }
+        heap.update(0, 5);
+        heap.update(4, -1);
+        assertEquals(4, heap.removeMinHandle());
+        assertEquals(1, heap.removeMinHandle());
+        assertEquals(2, heap.removeMinHandle());
+        assertEquals(0, heap.removeMinHandle());
+        assertEquals(3, heap.removeMinHandle());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveByHandle() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 20; i++) {
+            heap.add(i);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            heap.remove(i);
+        }
+        assertEquals(10, heap.size());
+        for (int i = 1; i < 20; i += 2) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDuplicatesAllowed() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        heap.add(3);
+        heap.add(3);
+        heap.add(3);
+        assertEquals(3, heap.size());
+        assertEquals(3, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        int handle = heap.add(5);
+        try {
+            heap.decreaseKey(handle, 6);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.remove(handle);
+        try {
+            heap.decreaseKey(handle, 1);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.remove(handle);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.get(7);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMatchesJavaPriorityQueueUnderRandomUpdates() {
+        IIndexedPriorityQueue<Integer> heap = this.makeInstance();
+        Random random = new Random(17);
+        int n = 2000;
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(100000);
+            heap.add(values[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            int handle = random.nextInt(n);
+            int newValue = random.nextInt(100000);
+            heap.update(handle, newValue);
+            values[handle] = newValue;
+        }
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int value : values) {
+            expected.add(value);
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package datastructures;
+
+import datastructures.concrete.IntDisjointSet;
+import datastructures.concrete.MappedDisjointSet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testMakeSets() {
+        IntDisjointSet sets = new IntDisjointSet();
+        assertEquals(0, sets.makeSets(3));
+        assertEquals(3, sets.makeSets(100));
+        assertEquals(103, sets.size());
+        assertEquals(103, sets.componentCount());
+        for (int i = 0; i < 103; i++) {
+            assertEquals(i, sets.find(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnionAndConnected() {
+        IntDisjointSet sets = new IntDisjointSet(6);
+        assertTrue(sets.union(0, 1));
+        assertTrue(sets.union(2, 3));
+        assertFalse(sets.union(1, 0));
+        assertTrue(sets.connected(0, 1));
+        assertFalse(sets.connected(1, 2));
+        assertTrue(sets.union(1, 3));
+        assertTrue(sets.connected(0, 2));
+        assertEquals(sets.find(0), sets.find(3));
+        assertEquals(3, sets.componentCount());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnionByRank() {
+        IntDisjointSet sets = new IntDisjointSet(5);
+        // Equal ranks: the first argument's root wins.
+        sets.union(0, 1);
+        assertEquals(0, sets.find(1));
+        // The higher rank wins, whichever side it is on.
+        sets.union(2, 0);
+        assertEquals(0, sets.find(2));
+        sets.union(3, 4);
+        sets.union(3, 0);
+        assertEquals(3, sets.find(0));
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongChainDoesNotOverflow() {
+        int n = 1_000_000;
+        IntDisjointSet sets = new IntDisjointSet(n);
+        for (int i = 1; i < n; i++) {
+            sets.union(0, i);
+        }
+        assertEquals(1, sets.componentCount());
+        assertTrue(sets.connected(n - 1, 1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMatchesNaiveLabels() {
+        int n = 2000;
+        IntDisjointSet sets = new IntDisjointSet(n);
+        int[] labels = new int[n];
+        for (int i = 0; i < n; i++) {
+            labels[i] = i;
+        }
+        Random random = new Random(23);
+        for (int round = 0; round < 1500; round++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            boolean separate = labels[a] != labels[b];
+            assertEquals(separate, sets.union(a, b));
+            int from = labels[b];
+            for (int i = 0; i < n; i++) {
+                if (labels[i] == from) {
+                    labels[i] = labels[a];
+                }
+            }
+        }
+        for (int round = 0; round < 5000; round++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            assertEquals(labels[a] == labels[b], sets.connected(a, b));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalIds() {
+        IntDisjointSet sets = new IntDisjointSet(3);
+        try {
+            sets.find(3);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            sets.union(-1, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            sets.makeSets(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMappedDisjointSet() {
+        MappedDisjointSet<String> forest = new MappedDisjointSet<>();
+        String[] items = {"a", "b", "c", "d"};
+        for (String item : items) {
+            forest.makeSet(item);
+        }
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(i, forest.idOf(items[i]));
+            assertEquals(i, forest.findSet(items[i]));
+        }
+        forest.union("a", "b");
+        forest.ints().union(forest.idOf("c"), forest.idOf("d"));
+        assertEquals(forest.findSet("c"), forest.findSet("d"));
+        assertTrue(forest.findSet("a") != forest.findSet("c"));
+
+        try {
+            forest.makeSet("a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            forest.findSet("e");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package datastructures;
+
+import datastructures.concrete.LazyArrayHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLazyArrayHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testDuplicatesAllowed() {
+        LazyArrayHeap<Integer> heap = new LazyArrayHeap<>();
+        heap.add(4);
+        heap.add(2);
+        heap.add(4);
+        heap.add(2);
+        assertEquals(4, heap.size());
+        assertEquals(2, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testStaleEntriesAreSkipped() {
+        boolean[] done = new boolean[10];
+        LazyArrayHeap<Integer> heap = new LazyArrayHeap<>(2, item -> done[item]);
+        for (int i = 9; i >= 0; i--) {
+            heap.add(i);
+        }
+        done[0] = true;
+        done[1] = true;
+        done[5] = true;
+        assertEquals(2, heap.peekMin());
+        assertEquals(8, heap.size());
+        assertEquals(2, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+        assertEquals(6, heap.removeMin());
+
+        // A per-call predicate overrides the heap's own.
+        assertEquals(8, heap.removeMin(item -> item == 7));
+        done[9] = true;
+        assertNull(heap.pollMin());
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOnlyStaleLeftThrows() {
+        LazyArrayHeap<Integer> heap = new LazyArrayHeap<>(4, item -> item < 0);
+        heap.add(-1);
+        heap.add(-2);
+        try {
+            heap.peekMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(heap.isEmpty());
+        try {
+            heap.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testClear() {
+        LazyArrayHeap<Integer> heap = new LazyArrayHeap<>();
+        for (int i = 0; i < 100; i++) {
+            heap.add(i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.add(3);
+        assertEquals(3, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSortsRandomInput() {
+        LazyArrayHeap<Integer> heap = new LazyArrayHeap<>(1);
+        Random random = new Random(22);
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(500);
+            heap.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (int value : values) {
+            assertEquals(value, heap.removeMin());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package datastructures;
+
+import datastructures.concrete.MultiQueue;
+import datastructures.interfaces.IConcurrentPriorityQueue;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMultiQueue extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingleShardIsExact() {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(1);
+        int[] values = {5, 3, 9, 3, 1, 7};
+        for (int value : values) {
+            queue.add(value);
+        }
+        assertEquals(6, queue.size());
+        for (int expected : new int[] {1, 3, 3, 5, 7, 9}) {
+            assertEquals(expected, queue.pollMin());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.pollMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsNull() {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>();
+        try {
+            queue.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new MultiQueue<Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRankErrorStaysSmall() {
+        int numShards = 8;
+        int n = 50000;
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(numShards);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        Random random = new Random(21);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        for (int value : values) {
+            queue.add(value);
+        }
+
+        // A Fenwick tree over the values still in the queue, to count how many are smaller.
+        int[] tree = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            tree[i]++;
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+        long totalRank = 0;
+        int maxRank = 0;
+        for (int i = 0; i < n; i++) {
+            int value = queue.pollMin();
+            int rank = 0;
+            for (int j = value; j > 0; j -= j & -j) {
+                rank += tree[j];
+            }
+            for (int j = value + 1; j <= n; j += j & -j) {
+                tree[j]--;
+            }
+            totalRank += rank;
+            maxRank = Math.max(maxRank, rank);
+        }
+        assertTrue("mean rank error " + (double) totalRank / n, totalRank < 4L * numShards * n);
+        assertTrue("max rank error " + maxRank, maxRank < 40 * numShards);
+        assertNull(queue.pollMin());
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentAddThenPollLosesNothing() throws InterruptedException {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(8);
+        int numThreads = 4;
+        int perThread = 20000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(numThreads * perThread);
+
+        runThreads(numThreads, t -> {
+            for (int i = 0; i < perThread; i++) {
+                queue.add(t * perThread + i);
+            }
+        });
+        assertEquals(numThreads * perThread, queue.size());
+        runThreads(numThreads, t -> {
+            Integer item;
+            while ((item = queue.pollMin()) != null) {
+                seen.incrementAndGet(item);
+            }
+        });
+
+        assertTrue(queue.isEmpty());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentMixedOperations() throws InterruptedException {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(8);
+        int numThreads = 4;
+        int perThread = 20000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(numThreads * perThread);
+
+        runThreads(numThreads, t -> {
+            for (int i = 0; i < perThread; i++) {
+                queue.add(t * perThread + i);
+                if (i % 2 == 1) {
+                    Integer item = queue.pollMin();
+                    assertTrue(item != null);
+                    seen.incrementAndGet(item);
+                }
+            }
+        });
+        Integer item;
+        while ((item = queue.pollMin()) != null) {
+            seen.incrementAndGet(item);
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertFalse(queue.size() > 0);
+    }
+
+    private interface ThreadBody {
+        void run(int threadIndex);
+    }
+
+    private static void runThreads(int numThreads, ThreadBody body) throws InterruptedException {
+        Thread[] threads = new Thread[numThreads];
+        Throwable[] errors = new Throwable[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    body.run(index);
+                } catch (Throwable ex) {
+                    errors[index] = ex;
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Throwable error : errors) {
+            if (error != null) {
+                throw new AssertionError(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package datastructures;
+
+import datastructures.TestArrayHeap.IntWrapper;
+import datastructures.concrete.PairingHeap;
+import datastructures.interfaces.IPriorityQueue;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPairingHeap extends BaseTest {
+    protected <T extends Comparable<T>> IPriorityQueue<T> makeInstance() {
+        return new PairingHeap<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOrdering() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        int[] values = {5, 3, 9, 1, 7, 2, 8};
+        for (int value : values) {
+            heap.add(value);
+        }
+        assertEquals(7, heap.size());
+        assertEquals(1, heap.peekMin());
+        for (int expected : new int[] {1, 2, 3, 5, 7, 8, 9}) {
+            assertEquals(expected, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceBothDirections() {
+        IntWrapper[] values = IntWrapper.createArray(new int[] {0, 2, 4, 6, 8});
+        IPriorityQueue<IntWrapper> heap = this.makeInstance();
+        for (IntWrapper value : values) {
+            heap.add(value);
+        }
+        heap.removeMin();
+        heap.add(values[0]);
+
+        IntWrapper lower = new IntWrapper(-1);
+        IntWrapper higher = new IntWrapper(5);
+        heap.replace(values[3], lower);
+        heap.replace(values[0], higher);
+        assertFalse(heap.contains(values[3]));
+        assertTrue(heap.contains(lower));
+
+        assertEquals(lower, heap.removeMin());
+        assertEquals(values[1], heap.removeMin());
+        assertEquals(values[2], heap.removeMin());
+        assertEquals(higher, heap.removeMin());
+        assertEquals(values[4], heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemove() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 30; i++) {
+            heap.add(i);
+        }
+        heap.removeMin();
+        for (int i = 1; i < 30; i += 2) {
+            heap.remove(i);
+        }
+        assertEquals(14, heap.size());
+        for (int i = 2; i < 30; i += 2) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testHandles() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        PairingHeap.Handle<Integer> ten = heap.insert(10);
+        PairingHeap.Handle<Integer> twenty = heap.insert(20);
+        heap.insert(15);
+        heap.replace(twenty, 5);
+        assertEquals(5, twenty.getItem());
+        assertTrue(heap.contains(5));
+        assertFalse(heap.contains(20));
+        heap.remove(ten);
+        assertFalse(heap.contains(10));
+        assertEquals(5, heap.removeMin());
+        assertEquals(15, heap.removeMin());
+
+        try {
+            heap.remove(ten);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.replace(twenty, 1);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.add(1);
+        heap.add(2);
+        try {
+            heap.add(1);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.replace(1, 2);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.remove(3);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMatchesJavaPriorityQueue() {
+        PairingHeap<IntWrapper> heap = new PairingHeap<>();
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        Random random = new Random(20);
+        IntWrapper[] live = new IntWrapper[4000];
+        int count = 0;
+        for (int round = 0; round < 20000; round++) {
+            int op = random.nextInt(4);
+            if (op <= 1 || count == 0) {
+                IntWrapper item = new IntWrapper(random.nextInt(1000));
+                heap.add(item);
+                expected.add(item.hashCode());
+                live[count++] = item;
+                if (count == live.length) {
+                    count = 0;
+                    while (!heap.isEmpty()) {
+                        assertEquals(expected.poll().intValue(), heap.removeMin().hashCode());
+                    }
+                }
+            } else if (op == 2) {
+                int index = random.nextInt(count);
+                IntWrapper item = new IntWrapper(random.nextInt(1000));
+                heap.replace(live[index], item);
+                expected.remove(live[index].hashCode());
+                expected.add(item.hashCode());
+                live[index] = item;
+            } else {
+                IntWrapper min = heap.removeMin();
+                assertEquals(expected.poll().intValue(), min.hashCode());
+                for (int i = 0; i < count; i++) {
+                    if (live[i] == min) {
+                        live[i] = live[--count];
+                        break;
+                    }
+                }
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package datastructures;
+
+import datastructures.concrete.DoubleList;
+import datastructures.concrete.IntList;
+import datastructures.concrete.LongList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPrimitiveLists extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testIntListBasics() {
+        IntList list = new IntList(0);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+        assertEquals(100, list.size());
+        assertEquals(30, list.get(10));
+        list.set(10, -1);
+        assertEquals(10, list.indexOf(-1));
+        assertEquals(-1, list.indexOf(30));
+        assertTrue(list.contains(297));
+        assertFalse(list.contains(298));
+        assertEquals(297, list.remove());
+        assertEquals(99, list.size());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.get(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIntListBulkOperations() {
+        IntList list = new IntList(2);
+        list.addAll(new int[] {5, 3, 9});
+        IntList other = new IntList();
+        other.addAll(new int[] {1, 7});
+        list.addAll(other);
+        list.addAll(new int[0]);
+        assertArrayEquals(new int[] {5, 3, 9, 1, 7}, list.toArray());
+
+        list.sort();
+        assertArrayEquals(new int[] {1, 3, 5, 7, 9}, list.toArray());
+        assertEquals(2, list.binarySearch(5));
+        assertEquals(-3, list.binarySearch(4));
+        assertEquals(-6, list.binarySearch(100));
+
+        int[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        assertEquals(25, sum[0]);
+
+        list.trimToSize();
+        list.add(11);
+        assertEquals(6, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongListBulkOperations() {
+        LongList list = new LongList();
+        list.addAll(new long[] {Long.MAX_VALUE, -4L, 1L << 40});
+        list.add(Long.MIN_VALUE);
+        list.sort();
+        assertArrayEquals(new long[] {Long.MIN_VALUE, -4L, 1L << 40, Long.MAX_VALUE}, list.toArray());
+        assertEquals(2, list.binarySearch(1L << 40));
+        assertEquals(3, list.indexOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, list.remove());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDoubleListBulkOperations() {
+        DoubleList list = new DoubleList();
+        list.addAll(new double[] {2.5, Double.NaN, -1.0, 0.0});
+        list.add(Double.POSITIVE_INFINITY);
+        assertEquals(1, list.indexOf(Double.NaN));
+
+        list.sort();
+        assertArrayEquals(new double[] {-1.0, 0.0, 2.5, Double.POSITIVE_INFINITY, Double.NaN},
+                list.toArray(), 0.0);
+        assertEquals(2, list.binarySearch(2.5));
+        assertEquals(-2, list.binarySearch(-0.5));
+
+        double[] sum = {0};
+        list.forEach(value -> {
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                sum[0] += value;
+            }
+        });
+        assertEquals(1.5, sum[0], 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testStreamsStopAtSize() {
+        IntList ints = new IntList(100);
+        LongList longs = new LongList(100);
+        DoubleList doubles = new DoubleList(100);
+        for (int i = 1; i <= 10; i++) {
+            ints.add(i);
+            longs.add(i);
+            doubles.add(i);
+        }
+        assertEquals(55, ints.stream().parallel().sum());
+        assertEquals(55L, longs.stream().sum());
+        assertEquals(55.0, doubles.stream().sum(), 0.0);
+        assertEquals(10L, ints.stream().count());
+    }
+}
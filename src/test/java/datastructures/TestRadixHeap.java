@@ -0,0 +1,173 @@
+package datastructures;
+
+import datastructures.concrete.RadixHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.InvalidElementException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestRadixHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicOrdering() {
+        RadixHeap heap = new RadixHeap(4);
+        heap.add(0, 7);
+        heap.add(1, 3);
+        heap.add(2, 1000);
+        heap.add(9, 3);
+        assertEquals(4, heap.size());
+        assertEquals(3, heap.peekMinPriority(), 0);
+        int first = heap.removeMin();
+        int second = heap.removeMin();
+        assertTrue((first == 1 && second == 9) || (first == 9 && second == 1));
+        assertEquals(0, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        RadixHeap heap = new RadixHeap();
+        for (int i = 0; i < 10; i++) {
+            heap.add(i, 100 + i);
+        }
+        heap.decreaseKey(9, 50);
+        assertTrue(heap.addOrDecrease(5, 60));
+        assertFalse(heap.addOrDecrease(5, 70));
+        assertTrue(heap.addOrDecrease(20, 55));
+        assertEquals(60, heap.priorityOf(5), 0);
+        assertEquals(9, heap.removeMin());
+        assertEquals(20, heap.removeMin());
+        assertEquals(5, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testScaleRoundsPriorities() {
+        RadixHeap heap = new RadixHeap(10, 100);
+        heap.add(0, 0.5);
+        heap.add(1, 0.123);
+        heap.add(2, 0.25);
+        assertEquals(0.12, heap.peekMinPriority(), 1e-9);
+        assertEquals(1, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMonotonicityIsChecked() {
+        RadixHeap heap = new RadixHeap();
+        heap.add(0, 10);
+        heap.add(1, 20);
+        heap.removeMin();
+        try {
+            heap.add(2, 5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(1, 9);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.add(2, 10);
+        assertEquals(2, heap.removeMin());
+
+        heap.clear();
+        heap.add(3, 0);
+        assertEquals(3, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        RadixHeap heap = new RadixHeap();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(0, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.add(0, Double.POSITIVE_INFINITY);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.add(0, 1);
+        try {
+            heap.add(0, 2);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(0, 2);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.priorityOf(1);
+            fail("Expected InvalidElementException");
+        } catch (InvalidElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new RadixHeap(10, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMonotoneRandomWorkload() {
+        RadixHeap heap = new RadixHeap(1);
+        Random random = new Random(19);
+        long[] keys = new long[5000];
+        Arrays.fill(keys, -1);
+        long last = 0;
+        int nextId = 0;
+        for (int round = 0; round < 20000; round++) {
+            int op = random.nextInt(3);
+            if (op == 0 && nextId < keys.length) {
+                keys[nextId] = last + random.nextInt(1 << random.nextInt(20));
+                heap.add(nextId, keys[nextId]);
+                nextId++;
+            } else if (op == 1 && nextId > 0) {
+                int id = random.nextInt(nextId);
+                if (heap.contains(id) && keys[id] > last) {
+                    keys[id] = last + random.nextInt((int) Math.min(keys[id] - last, Integer.MAX_VALUE));
+                    heap.decreaseKey(id, keys[id]);
+                }
+            } else if (!heap.isEmpty()) {
+                long min = Long.MAX_VALUE;
+                for (int id = 0; id < nextId; id++) {
+                    if (heap.contains(id)) {
+                        min = Math.min(min, keys[id]);
+                    }
+                }
+                int id = heap.removeMin();
+                assertEquals(min, keys[id]);
+                last = min;
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package datastructures;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestUnrolledLinkedList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new UnrolledLinkedList<>(2);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    protected <T> void assertListMatches(IList<T> expected, IList<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+            assertTrue(iter.hasNext());
+            assertEquals(expected.get(i), iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOperations() {
+        IList<String> list = this.makeBasicList();
+        list.insert(0, "x");
+        list.insert(2, "y");
+        list.set(4, "C");
+        assertEquals("b", list.delete(3));
+        assertEquals(1, list.indexOf("a"));
+        assertEquals(-1, list.indexOf("b"));
+        assertTrue(list.contains("C"));
+
+        IList<String> expected = new DynamicArrayList<>();
+        expected.add("x");
+        expected.add("a");
+        expected.add("y");
+        expected.add("C");
+        this.assertListMatches(expected, list);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.remove(), list.remove());
+        }
+        this.assertListMatches(expected, list);
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = this.makeBasicList();
+        try {
+            list.get(3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.insert(4, "q");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.delete(-1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new UnrolledLinkedList<>(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorOnEmptyList() {
+        IList<String> list = new UnrolledLinkedList<>();
+        Iterator<String> iter = list.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomEditsMatchArrayList() {
+        Random rand = new Random(373);
+        for (int nodeCapacity : new int[] {2, 3, 8}) {
+            IList<Integer> list = new UnrolledLinkedList<>(nodeCapacity);
+            IList<Integer> expected = new DynamicArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                int op = rand.nextInt(5);
+                if (op == 0 || expected.isEmpty()) {
+                    int index = rand.nextInt(expected.size() + 1);
+                    list.insert(index, i);
+                    expected.insert(index, i);
+                } else if (op == 1) {
+                    int index = rand.nextInt(expected.size());
+                    assertEquals(expected.delete(index), list.delete(index));
+                } else if (op == 2) {
+                    list.add(i);
+                    expected.add(i);
+                } else if (op == 3) {
+                    int index = rand.nextInt(expected.size());
+                    list.set(index, -i);
+                    expected.set(index, -i);
+                } else {
+                    assertEquals(expected.remove(), list.remove());
+                }
+            }
+            this.assertListMatches(expected, list);
+
+            int[] next = {0};
+            list.forEach(item -> {
+                assertEquals(expected.get(next[0]), item);
+                next[0]++;
+            });
+            assertEquals(expected.size(), next[0]);
+        }
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testInsertAtFrontIsEfficient() {
+        IList<Integer> list = new UnrolledLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.insert(0, i);
+        }
+        assertEquals(cap, list.size());
+        assertEquals(cap - 1, (int) list.get(0));
+        assertEquals(0, (int) list.get(cap - 1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInOrder() {
+        IList<Integer> list = new UnrolledLinkedList<>(4);
+        int cap = 5000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals((long) cap, spliterator.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        splitInOrder(spliterator, seen);
+        assertEquals(cap, seen.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) seen.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStream() {
+        IList<Integer> list = new UnrolledLinkedList<>(4);
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        assertEquals((long) cap * (cap - 1) / 2, list.parallelStream().mapToLong(i -> i).sum());
+        assertEquals(list.get(cap - 1), list.parallelStream().reduce((a, b) -> b).get());
+        assertEquals(0L, new UnrolledLinkedList<>(4).stream().count());
+    }
+
+    /**
+     * Splits the given spliterator as far as it will go, and appends what each piece hands
+     * out to 'seen', prefixes first.
+     */
+    private static <T> void splitInOrder(Spliterator<T> spliterator, List<T> seen) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitInOrder(prefix, seen);
+            splitInOrder(spliterator, seen);
+            return;
+        }
+        while (spliterator.tryAdvance(seen::add)) {
+            // Keep going until the piece runs dry.
+        }
+    }
+}
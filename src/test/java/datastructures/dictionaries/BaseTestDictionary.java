@@ -2,6 +2,7 @@ package datastructures.dictionaries;
 
 import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import misc.BaseTest;
 import misc.exceptions.NoSuchKeyException;
 import org.junit.FixMethodOrder;
@@ -14,6 +15,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -653,4 +656,171 @@ public abstract class BaseTestDictionary extends BaseTest {
         }
     }
 
+    @Test(timeout=SECOND)
+    public void testForEachVisitsEveryPair() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Map<Integer, Integer> expected = new HashMap<>();
+        dict.put(null, -1);
+        expected.put(null, -1);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i * 2);
+            expected.put(i, i * 2);
+        }
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        dict.forEach((key, value) -> {
+            assertFalse(seen.containsKey(key));
+            seen.put(key, value);
+        });
+        assertEquals(expected, seen);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsCoverEveryPair() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Map<Integer, Integer> expected = new HashMap<>();
+        dict.put(null, -1);
+        expected.put(null, -1);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i * 2);
+            expected.put(i, i * 2);
+        }
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        splitAndCollect(dict.spliterator(), seen);
+        assertEquals(expected, seen);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorOverEmptyDictionary() {
+        IDictionary<String, String> dict = this.newDictionary();
+        Spliterator<KVPair<String, String>> spliterator = dict.spliterator();
+        assertFalse(spliterator.tryAdvance(pair -> fail("Expected no pairs")));
+        assertEquals(0L, dict.stream().count());
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamVisitsEveryPair() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            dict.put(i, i);
+        }
+
+        long sum = dict.parallelStream().mapToLong(pair -> pair.getValue()).sum();
+        assertEquals((long) count * (count - 1) / 2, sum);
+        assertEquals(count, dict.parallelStream().map(KVPair::getKey).collect(Collectors.toSet()).size());
+    }
+
+    /**
+     * Splits the given spliterator as far as it will go, and adds every pair it hands out to
+     * 'seen', checking that no key comes up twice.
+     */
+    private static <K, V> void splitAndCollect(Spliterator<KVPair<K, V>> spliterator, Map<K, V> seen) {
+        Spliterator<KVPair<K, V>> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitAndCollect(prefix, seen);
+            splitAndCollect(spliterator, seen);
+            return;
+        }
+        spliterator.forEachRemaining(pair -> {
+            assertFalse(seen.containsKey(pair.getKey()));
+            seen.put(pair.getKey(), pair.getValue());
+        });
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachKeyAndForEachValue() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+
+        List<String> keys = new ArrayList<>();
+        dict.forEachKey(keys::add);
+        keys.sort(null);
+        assertEquals(3, keys.size());
+        assertEquals("keyA", keys.get(0));
+        assertEquals("keyC", keys.get(2));
+
+        List<String> values = new ArrayList<>();
+        dict.forEachValue(values::add);
+        values.sort(null);
+        assertEquals(3, values.size());
+        assertEquals("valB", values.get(1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorVisitsEveryPair() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Map<Integer, Integer> expected = new HashMap<>();
+        dict.put(null, -1);
+        expected.put(null, -1);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i * 2);
+            expected.put(i, i * 2);
+        }
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        IDictionaryCursor<Integer, Integer> cursor = dict.cursor();
+        while (cursor.advance()) {
+            assertFalse(seen.containsKey(cursor.getKey()));
+            seen.put(cursor.getKey(), cursor.getValue());
+        }
+        assertEquals(expected, seen);
+        assertFalse(cursor.advance());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorReset() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        for (int pass = 0; pass < 3; pass++) {
+            int count = 0;
+            while (cursor.advance()) {
+                assertEquals(dict.get(cursor.getKey()), cursor.getValue());
+                count++;
+            }
+            assertEquals(3, count);
+            cursor.reset();
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorOverEmptyDictionary() {
+        IDictionary<String, String> dict = this.newDictionary();
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        try {
+            cursor.getKey();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        assertFalse(cursor.advance());
+        try {
+            cursor.getValue();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutAll() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        IDictionary<Integer, Integer> other = this.newDictionary();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            dict.put(i, i);
+            expected.put(i, i);
+        }
+        for (int i = 250; i < 2000; i++) {
+            other.put(i, -i);
+            expected.put(i, -i);
+        }
+
+        dict.putAll(other);
+        assertEquals(expected.size(), dict.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), dict.get(entry.getKey()));
+        }
+        assertEquals(1750, other.size());
+    }
 }
@@ -1,6 +1,7 @@
 package datastructures.dictionaries;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.HashTableStats;
 import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
 import org.junit.Assert;
@@ -8,6 +9,10 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -166,4 +171,106 @@ public class TestChainedHashDictionary extends BaseTestDictionary {
         IDictionary<String, String>[] chains = getField(map, "chains", IDictionary[].class);
         assertNotNull(chains);
     }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResize() {
+        IDictionary<Integer, Integer> dict = ChainedHashDictionary.withExpectedSize(10000);
+        IDictionary<?, ?>[] chains = getField(dict, "chains", IDictionary[].class);
+        for (int i = 0; i < 10000; i++) {
+            dict.put(i, i);
+        }
+        assertTrue(chains == getField(dict, "chains", IDictionary[].class));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongBucketConvertsAndConvertsBack() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 20; i++) {
+            map.put(new Wrapper<>("" + i, 0), i);
+        }
+        assertEquals("SortedBucket", bucketHolding(map, new Wrapper<>("0", 0)).getClass().getSimpleName());
+
+        for (int i = 0; i < 14; i++) {
+            assertEquals(i, map.remove(new Wrapper<>("" + i, 0)));
+        }
+        assertEquals("ArrayDictionary", bucketHolding(map, new Wrapper<>("19", 0)).getClass().getSimpleName());
+        for (int i = 14; i < 20; i++) {
+            assertEquals(i, map.get(new Wrapper<>("" + i, 0)));
+        }
+        assertEquals(6, map.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMinValueHashCode() {
+        IDictionary<Wrapper<String>, String> dict = this.newDictionary();
+        Wrapper<String> key = new Wrapper<>("min", Integer.MIN_VALUE);
+        dict.put(key, "val");
+        assertEquals("val", dict.get(key));
+        assertEquals("val", dict.remove(key));
+        assertFalse(dict.containsKey(key));
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testGridPointKeys() {
+        IDictionary<Point, Integer> dict = this.newDictionary();
+        int side = 500;
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                dict.put(new Point(10 * x, 10 * y), x * side + y);
+            }
+        }
+        assertEquals(side * side, dict.size());
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                assertEquals(x * side + y, dict.get(new Point(10 * x, 10 * y)));
+            }
+        }
+        assertFalse(dict.containsKey(new Point(5, 5)));
+    }
+
+    private static <K> Object bucketHolding(IDictionary<K, ?> map, K key) {
+        IDictionary<?, ?>[] chains = getField(map, "chains", IDictionary[].class);
+        for (IDictionary<?, ?> chain : chains) {
+            @SuppressWarnings("unchecked")
+            IDictionary<K, ?> typed = (IDictionary<K, ?>) chain;
+            if (typed != null && typed.containsKey(key)) {
+                return chain;
+            }
+        }
+        throw new AssertionError("No bucket contains " + key);
+    }
+
+    @Test(timeout=SECOND)
+    public void testStats() throws Exception {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        HashTableStats stats = dict.enableStats();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+
+        assertEquals(1000, stats.getSize());
+        assertTrue(stats.getResizeCount() > 0);
+        assertTrue(stats.getLoadFactor() <= 3.0);
+        long buckets = 0;
+        long entries = 0;
+        long[] histogram = stats.getLengthHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            buckets += histogram[i];
+            entries += i * histogram[i];
+        }
+        assertEquals((long) stats.getCapacity(), buckets);
+        assertEquals(1000L, entries);
+
+        stats.register("TestChainedHashDictionary");
+        try {
+            Object size = ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName("datastructures:type=HashTableStats,name=\"TestChainedHashDictionary\""), "Size");
+            assertEquals(1000, size);
+        } finally {
+            stats.unregister();
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ConcurrentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentHashDictionary extends BaseTestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ConcurrentHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutIfAbsentAndComputeIfAbsent() {
+        ConcurrentHashDictionary<String, Integer> dict = new ConcurrentHashDictionary<>();
+        assertEquals(null, dict.putIfAbsent("a", 1));
+        assertEquals(1, dict.putIfAbsent("a", 2));
+        assertEquals(1, dict.get("a"));
+
+        assertEquals(1, dict.computeIfAbsent("a", key -> 5));
+        assertEquals(5, dict.computeIfAbsent("b", key -> 5));
+        assertEquals(5, dict.get("b"));
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testComputeStoresNull() {
+        ConcurrentHashDictionary<String, Integer> dict = new ConcurrentHashDictionary<>();
+        assertEquals(1, dict.compute("a", (key, old) -> old == null ? 1 : old + 1));
+        assertEquals(2, dict.compute("a", (key, old) -> old == null ? 1 : old + 1));
+        assertEquals(null, dict.compute("a", (key, old) -> null));
+        assertEquals(null, dict.get("a"));
+        assertEquals(1, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSingleStripe() {
+        IDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>(0, 1);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dict.remove(i));
+        }
+        assertEquals(0, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidStripes() {
+        try {
+            new ConcurrentHashDictionary<String, String>(0, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentPutsAndRemoves() throws InterruptedException {
+        ConcurrentHashDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>();
+        int numThreads = 4;
+        int perThread = 50000;
+
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int offset = t * perThread;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < offset + perThread; i++) {
+                    dict.put(i, i);
+                }
+                for (int i = offset; i < offset + perThread; i += 2) {
+                    dict.remove(i);
+                }
+            });
+        }
+        runAll(threads);
+
+        assertEquals(numThreads * perThread / 2, dict.size());
+        for (int i = 0; i < numThreads * perThread; i++) {
+            if (i % 2 == 0) {
+                assertFalse(dict.containsKey(i));
+            } else {
+                assertEquals(i, dict.get(i));
+            }
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentComputeIsAtomic() throws InterruptedException {
+        ConcurrentHashDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>();
+        AtomicInteger firstInserts = new AtomicInteger(0);
+        int numThreads = 4;
+        int increments = 20000;
+        int numKeys = 10;
+
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < increments; i++) {
+                    dict.compute(i % numKeys, (key, old) -> old == null ? 1 : old + 1);
+                    if (dict.putIfAbsent(-1 - (i % numKeys), i) == null) {
+                        firstInserts.incrementAndGet();
+                    }
+                }
+            });
+        }
+        runAll(threads);
+
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(numThreads * increments / numKeys, dict.get(key));
+        }
+        assertEquals(numKeys, firstInserts.get());
+    }
+
+    private static void runAll(Thread[] threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
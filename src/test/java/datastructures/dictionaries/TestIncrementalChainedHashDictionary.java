@@ -0,0 +1,89 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every ChainedHashDictionary test with incremental resizing turned on.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIncrementalChainedHashDictionary extends TestChainedHashDictionary {
+    @Override
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(3.0, true);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        // 301 puts crosses the first resize threshold, leaving most old buckets unmigrated.
+        int count = 301;
+        for (int i = 0; i < count; i++) {
+            dict.put(i, i * 2);
+        }
+
+        boolean[] seen = new boolean[count];
+        for (KVPair<Integer, Integer> pair : dict) {
+            int key = pair.getKey();
+            assertFalse("Duplicate key: " + key, seen[key]);
+            assertEquals(key * 2, (int) pair.getValue());
+            seen[key] = true;
+        }
+        for (boolean found : seen) {
+            assertTrue(found);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int count = 301;
+        for (int i = 0; i < count; i++) {
+            dict.put(i, i * 2);
+        }
+
+        boolean[] seen = new boolean[count];
+        dict.parallelStream().forEach(pair -> {
+            assertEquals(pair.getKey() * 2, (int) pair.getValue());
+            synchronized (seen) {
+                assertFalse("Duplicate key: " + pair.getKey(), seen[pair.getKey()]);
+                seen[pair.getKey()] = true;
+            }
+        });
+        for (boolean found : seen) {
+            assertTrue(found);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdatesAndRemovesDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 301; i++) {
+            dict.put(i, i);
+        }
+
+        // Overwrite and remove keys whose old buckets haven't been migrated yet.
+        for (int i = 300; i >= 200; i--) {
+            dict.put(i, -i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, dict.remove(i));
+        }
+
+        assertEquals(201, dict.size());
+        for (int i = 0; i < 301; i++) {
+            if (i < 100) {
+                assertFalse(dict.containsKey(i));
+            } else {
+                assertEquals(i >= 200 ? -i : i, dict.get(i));
+            }
+        }
+    }
+}
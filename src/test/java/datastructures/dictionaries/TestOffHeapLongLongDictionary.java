@@ -0,0 +1,204 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.dictionaries.OffHeapLongLongDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOffHeapLongLongDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasic() {
+        OffHeapLongLongDictionary dict = new OffHeapLongLongDictionary();
+        assertTrue(dict.isEmpty());
+        dict.put(3L, 30L);
+        dict.put(-3L, -30L);
+        dict.put(0L, 7L);
+        dict.put(3L, 31L);
+
+        assertEquals(3, dict.size());
+        assertEquals(31L, dict.get(3L));
+        assertEquals(-30L, dict.get(-3L));
+        assertEquals(7L, dict.get(0L));
+        assertEquals(-1L, dict.getOrDefault(4L, -1L));
+        assertFalse(dict.containsKey(4L));
+
+        assertEquals(7L, dict.remove(0L));
+        assertFalse(dict.containsKey(0L));
+        assertEquals(2, dict.size());
+        try {
+            dict.get(0L);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testMatchesHashMap() {
+        OffHeapLongLongDictionary dict = new OffHeapLongLongDictionary();
+        Map<Long, Long> expected = new HashMap<>();
+        Random rand = new Random(12);
+        for (int i = 0; i < 200000; i++) {
+            long key = rand.nextInt(50000) - 25000;
+            if (rand.nextInt(4) == 0) {
+                if (expected.containsKey(key)) {
+                    assertEquals(expected.remove(key), dict.remove(key));
+                } else {
+                    assertFalse(dict.containsKey(key));
+                }
+            } else {
+                dict.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertEquals(expected.size(), dict.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals((long) entry.getValue(), dict.get((long) entry.getKey()));
+        }
+        int count = 0;
+        for (KVPair<Long, Long> pair : dict) {
+            assertEquals(expected.get(pair.getKey()), pair.getValue());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsNull() {
+        OffHeapLongLongDictionary dict = new OffHeapLongLongDictionary();
+        try {
+            dict.put(null, 1L);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testFileRoundTrip() throws IOException {
+        Path file = Files.createTempFile("offheap", ".dict");
+        try {
+            try (OffHeapLongLongDictionary dict = OffHeapLongLongDictionary.create(file, 10)) {
+                // Starts small, so this grows (and replaces the file) several times.
+                for (long i = 0; i < 100000; i++) {
+                    dict.put(i * 7919, i);
+                }
+                dict.remove(7919L);
+            }
+
+            try (OffHeapLongLongDictionary dict = OffHeapLongLongDictionary.open(file)) {
+                assertEquals(99999, dict.size());
+                assertEquals(0L, dict.get(0L));
+                assertFalse(dict.containsKey(7919L));
+                for (long i = 2; i < 100000; i++) {
+                    assertEquals(i, dict.get(i * 7919));
+                }
+                dict.put(-1L, 42L);
+            }
+
+            try (OffHeapLongLongDictionary dict = OffHeapLongLongDictionary.open(file)) {
+                assertEquals(100000, dict.size());
+                assertEquals(42L, dict.get(-1L));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReopenAfterResizeWithoutClose() throws IOException {
+        Path file = Files.createTempFile("offheap", ".dict");
+        try (OffHeapLongLongDictionary dict = OffHeapLongLongDictionary.create(file, 0)) {
+            // The table starts with DEFAULT_CAP slots and grows on the put that takes it past
+            // half full. Everything up to and including that put is in the file right away.
+            int count = OffHeapLongLongDictionary.DEFAULT_CAP / 2 + 1;
+            for (long i = 1; i <= count; i++) {
+                dict.put(i * 31, i);
+            }
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".resize")));
+
+            try (OffHeapLongLongDictionary reopened = OffHeapLongLongDictionary.open(file)) {
+                assertEquals(count, reopened.size());
+                for (long i = 1; i <= count; i++) {
+                    assertEquals(i, reopened.get(i * 31));
+                }
+            }
+
+            // The original stays usable after being reopened elsewhere.
+            dict.put(-5L, 5L);
+            assertEquals(5L, dict.get(-5L));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFailedResizeKeepsOldFile() throws IOException {
+        Path file = Files.createTempFile("offheap", ".dict");
+        // A directory where the temporary file should go makes the next resize fail.
+        Path blocker = file.resolveSibling(file.getFileName() + ".resize");
+        Files.createDirectory(blocker);
+        try (OffHeapLongLongDictionary dict = OffHeapLongLongDictionary.create(file, 0)) {
+            int count = OffHeapLongLongDictionary.DEFAULT_CAP / 2;
+            for (long i = 1; i <= count; i++) {
+                dict.put(i, i);
+            }
+            dict.flush();
+            try {
+                dict.put(-1L, 1L);
+                fail("Expected UncheckedIOException");
+            } catch (UncheckedIOException ex) {
+                // All ok -- expected result
+            }
+
+            try (OffHeapLongLongDictionary reopened = OffHeapLongLongDictionary.open(file)) {
+                assertEquals(count, reopened.size());
+                for (long i = 1; i <= count; i++) {
+                    assertEquals(i, reopened.get(i));
+                }
+            }
+
+            // Once the way is clear, the next put grows the table as usual.
+            Files.delete(blocker);
+            dict.put(-2L, 2L);
+            assertEquals(count + 2, dict.size());
+            assertEquals(1L, dict.get(-1L));
+        } finally {
+            Files.deleteIfExists(blocker);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Path file = Files.createTempFile("offheap", ".txt");
+        try {
+            Files.write(file, "not a dictionary".getBytes());
+            try {
+                OffHeapLongLongDictionary.open(file);
+                fail("Expected IOException");
+            } catch (IOException ex) {
+                // All ok -- expected result
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
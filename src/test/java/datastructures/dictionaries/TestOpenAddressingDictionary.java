@@ -0,0 +1,114 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.HashTableStats;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOpenAddressingDictionary extends BaseTestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new OpenAddressingDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveFromMiddleOfCollidingRun() {
+        IDictionary<Wrapper<String>, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 50; i++) {
+            dict.put(new Wrapper<>("" + i, 7), i);
+        }
+
+        // Removing keys from the middle of a probe run must not hide the keys after them.
+        for (int i = 0; i < 50; i += 2) {
+            assertEquals(i, dict.remove(new Wrapper<>("" + i, 7)));
+        }
+
+        assertEquals(25, dict.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>("" + i, 7)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyAlongsideCollidingKeys() {
+        IDictionary<Wrapper<String>, String> dict = this.newDictionary();
+        dict.put(null, "null");
+        dict.put(new Wrapper<>("a", 0), "a");
+        dict.put(new Wrapper<>("b", 0), "b");
+
+        assertEquals("null", dict.get(null));
+        dict.remove(new Wrapper<>("a", 0));
+        assertEquals("null", dict.get(null));
+        assertEquals("b", dict.get(new Wrapper<>("b", 0)));
+
+        int count = 0;
+        for (KVPair<Wrapper<String>, String> pair : dict) {
+            assertTrue(pair.getKey() == null || pair.getValue().equals("b"));
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactor() {
+        try {
+            new OpenAddressingDictionary<String, String>(1.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testStress() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < limit; i += 2) {
+            dict.remove(i);
+        }
+        for (int i = 0; i < limit; i++) {
+            if (i % 2 == 0) {
+                assertFalse(dict.containsKey(i));
+            } else {
+                assertEquals(i, dict.get(i));
+            }
+        }
+        assertEquals(limit / 2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testStats() {
+        OpenAddressingDictionary<Wrapper<String>, Integer> dict = new OpenAddressingDictionary<>();
+        HashTableStats stats = dict.enableStats();
+        assertTrue(stats == dict.enableStats());
+        for (int i = 0; i < 5; i++) {
+            dict.put(new Wrapper<>("" + i, 3), i);
+        }
+
+        assertEquals(5, stats.getSize());
+        assertEquals(OpenAddressingDictionary.DEFAULT_CAP, stats.getCapacity());
+        assertEquals(0L, stats.getResizeCount());
+        assertEquals(4, stats.getMaxLength());
+        long[] histogram = stats.getLengthHistogram();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1L, histogram[i]);
+        }
+
+        for (int i = 5; i < 100; i++) {
+            dict.put(new Wrapper<>("" + i, i), i);
+        }
+        assertTrue(stats.getResizeCount() > 0);
+        assertEquals(100.0 / stats.getCapacity(), stats.getLoadFactor(), 1e-9);
+    }
+}
@@ -0,0 +1,132 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.IntIntDictionary;
+import datastructures.concrete.dictionaries.LongObjDictionary;
+import datastructures.concrete.dictionaries.ObjIntDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests IntIntDictionary, ObjIntDictionary and LongObjDictionary.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPrimitiveDictionaries extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testIntIntBasic() {
+        IntIntDictionary dict = new IntIntDictionary();
+        assertTrue(dict.isEmpty());
+        dict.put(3, 30);
+        dict.put(-3, -30);
+        dict.put(0, 7);
+        dict.put(3, 31);
+
+        assertEquals(3, dict.size());
+        assertEquals(31, dict.get(3));
+        assertEquals(-30, dict.get(-3));
+        assertEquals(7, dict.get(0));
+        assertEquals(-1, dict.getOrDefault(4, -1));
+        assertFalse(dict.containsKey(4));
+
+        assertEquals(7, dict.remove(0));
+        assertFalse(dict.containsKey(0));
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIntIntMissingKeyThrows() {
+        IntIntDictionary dict = new IntIntDictionary();
+        try {
+            dict.get(0);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(5);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testIntIntManyWithRemoves() {
+        IntIntDictionary dict = new IntIntDictionary();
+        int limit = 200000;
+        for (int i = -limit; i < limit; i++) {
+            dict.put(i * 16, i);
+        }
+        for (int i = -limit; i < limit; i += 3) {
+            assertEquals(i, dict.remove(i * 16));
+        }
+        for (int i = -limit; i < limit; i++) {
+            boolean removed = (i + limit) % 3 == 0;
+            assertEquals(!removed, dict.containsKey(i * 16));
+            if (!removed) {
+                assertEquals(i, dict.get(i * 16));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testObjIntNullAndCollidingKeys() {
+        ObjIntDictionary<Wrapper<String>> dict = new ObjIntDictionary<>();
+        dict.put(null, -5);
+        for (int i = 0; i < 100; i++) {
+            dict.put(new Wrapper<>("" + i, 1), i);
+        }
+        assertEquals(101, dict.size());
+        assertEquals(-5, dict.get(null));
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, dict.remove(new Wrapper<>("" + i, 1)));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? -1 : i, dict.getOrDefault(new Wrapper<>("" + i, 1), -1));
+        }
+        assertEquals(-5, dict.remove(null));
+        assertFalse(dict.containsKey(null));
+        assertEquals(50, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testObjIntMissingKeyThrows() {
+        ObjIntDictionary<String> dict = new ObjIntDictionary<>();
+        dict.put("a", 1);
+        try {
+            dict.get("b");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongObjPackedPoints() {
+        LongObjDictionary<String> dict = new LongObjDictionary<>();
+        for (int x = -20; x < 20; x++) {
+            for (int y = -20; y < 20; y++) {
+                dict.put(LongObjDictionary.packInts(x, y), x + "," + y);
+            }
+        }
+        assertEquals(1600, dict.size());
+        assertEquals("0,0", dict.get(0L));
+        assertEquals("-1,5", dict.get(LongObjDictionary.packInts(-1, 5)));
+        assertEquals("5,-1", dict.get(LongObjDictionary.packInts(5, -1)));
+        assertEquals(null, dict.getOrDefault(LongObjDictionary.packInts(20, 0), null));
+
+        assertEquals("0,0", dict.remove(0L));
+        assertFalse(dict.containsKey(0L));
+        dict.put(LongObjDictionary.packInts(3, 3), null);
+        assertTrue(dict.containsKey(LongObjDictionary.packInts(3, 3)));
+        assertEquals(null, dict.get(LongObjDictionary.packInts(3, 3)));
+        assertEquals(1599, dict.size());
+    }
+}